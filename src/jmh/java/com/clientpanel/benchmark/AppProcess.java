@@ -0,0 +1,123 @@
+package com.clientpanel.benchmark;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * The fast-start build ({@code mvn -Pfaststart package}, extracted to {@code target/faststart})
+ * running in a child JVM. The child reads {@code DB_URL}/{@code DB_USER}/{@code DB_PASSWORD}
+ * from the environment like a normal start. Modes: {@code jar} (no flags), {@code cds}
+ * (AppCDS archive), {@code aot} (AOT initialization) and {@code aot-cds} (both).
+ */
+final class AppProcess {
+
+    private static final Path FASTSTART = Path.of("target", "faststart");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Process process;
+    private final URI base;
+    private final HttpClient http = HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    private AppProcess(Process process, int port) {
+        this.process = process;
+        this.base = URI.create("http://localhost:" + port);
+    }
+
+    /** Launches the app and returns once it answers its first HTTP request. */
+    static AppProcess start(String mode) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (mode.contains("cds")) {
+            command.add("-XX:SharedArchiveFile=" + FASTSTART.resolve("application.jsa"));
+            command.add("-Xlog:cds=off");
+        }
+        if (mode.contains("aot")) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        int port = freePort();
+        command.addAll(List.of("-jar", applicationJar().toString(), "--server.port=" + port));
+
+        AppProcess app = new AppProcess(new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start(), port);
+        app.awaitFirstResponse();
+        return app;
+    }
+
+    /** Logs in and loads the client list: the first real page an operator sees. */
+    int loginAndLoadClients(String email, String password) throws IOException, InterruptedException {
+        HttpResponse<Void> login = http.send(HttpRequest.newBuilder(base.resolve("/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString("email=" + email + "&password=" + password))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        String location = login.headers().firstValue("Location").orElse("");
+        if (location.contains("error")) {
+            throw new IllegalStateException("Login failed for " + email);
+        }
+        HttpResponse<String> clients = http.send(HttpRequest.newBuilder(base.resolve("/clients")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (clients.statusCode() != 200) {
+            throw new IllegalStateException("GET /clients returned " + clients.statusCode());
+        }
+        return clients.body().length();
+    }
+
+    void stop() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private void awaitFirstResponse() throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        HttpRequest probe = HttpRequest.newBuilder(base.resolve("/login")).build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue()
+                        + "; is DB_URL set and the database reachable?");
+            }
+            try {
+                http.send(probe, HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException notListeningYet) {
+                Thread.sleep(10);
+            }
+        }
+        stop();
+        throw new IllegalStateException("Application did not start within " + STARTUP_TIMEOUT);
+    }
+
+    private static Path applicationJar() throws IOException {
+        if (!Files.isDirectory(FASTSTART)) {
+            throw new IllegalStateException("Build the fast-start jar first: mvn -Pfaststart package");
+        }
+        try (Stream<Path> files = Files.list(FASTSTART)) {
+            return files.filter(file -> file.toString().endsWith(".jar")).findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No jar in " + FASTSTART));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
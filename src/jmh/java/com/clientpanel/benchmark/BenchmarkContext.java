@@ -0,0 +1,66 @@
+package com.clientpanel.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.clientpanel.ClientPanelApplication;
+
+/**
+ * Boots the application against in-memory H2 (profile {@code benchmark}) and seeds a fixed,
+ * deterministic set of clients so runs on different commits see identical data.
+ */
+final class BenchmarkContext {
+
+    static final int CLIENTS = 10_000;
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ClientPanelApplication.class)
+                .profiles("benchmark")
+                .run();
+        seed(context.getBean(JdbcTemplate.class));
+        return context;
+    }
+
+    static String clientId(int i) {
+        return String.format("bench%05d", i);
+    }
+
+    static String email(int i) {
+        return clientId(i) + "@example.com";
+    }
+
+    static String mobile(int i) {
+        return String.format("9%09d", i);
+    }
+
+    static String phoneNumberId(int i) {
+        return String.format("5%014d", i);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        // One shared hash: seeding 10k BCrypt hashes would dominate startup
+        String hash = new BCryptPasswordEncoder().encode("benchmark");
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            Timestamp created = Timestamp.valueOf(base.plusMinutes(i));
+            rows.add(new Object[] {clientId(i), email(i), "Client " + i, mobile(i), phoneNumberId(i), hash,
+                    null, "ROLE_CLIENT", i % 4 == 0 ? "Inactive" : "Active", created, created});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO users (client_id, email, name, mobile, phone_number_id, pass,
+                                   chat_prefix, role, status, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+}
@@ -0,0 +1,73 @@
+package com.clientpanel.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import com.clientpanel.model.User;
+import com.clientpanel.service.ClientFieldValidator;
+
+/**
+ * Edit-form field validation: per-call {@code String.matches} (the original controller code)
+ * against the precompiled patterns in {@link ClientFieldValidator}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ClientValidationBenchmark {
+
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private final ClientFieldValidator validator = new ClientFieldValidator();
+    private User user;
+
+    @Setup
+    public void setUp() {
+        boolean valid = "valid".equals(input);
+        user = User.builder()
+                .clientId("bench00001")
+                .email(valid ? "client@example.com" : "client.example.com")
+                .name("Client")
+                .mobile(valid ? "9123456789" : "91234x")
+                .phoneNumberId(valid ? "512345678901234" : "5123")
+                .build();
+    }
+
+    @Benchmark
+    public Errors stringMatches() {
+        Errors errors = new BeanPropertyBindingResult(user, "user");
+        if (!user.getEmail().matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
+            errors.rejectValue("email", "error.email", "Email should be valid");
+        }
+        if (!user.getMobile().matches("^[0-9]{10,15}$")) {
+            errors.rejectValue("mobile", "error.mobile", "Mobile number must be numeric between 10 and 15 digits");
+        }
+        if (!user.getPhoneNumberId().matches("^[0-9]{15}$")) {
+            errors.rejectValue("phoneNumberId", "error.phoneNumberId", "Phone number ID must be exactly 15 numeric digits");
+        }
+        return errors;
+    }
+
+    @Benchmark
+    public Errors precompiled() {
+        Errors errors = new BeanPropertyBindingResult(user, "user");
+        validator.validateForEdit(user, errors);
+        return errors;
+    }
+}
@@ -0,0 +1,52 @@
+package com.clientpanel.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of the first login and client-list page on a freshly started instance, which pays
+ * for class loading, JIT warm-up and lazy initialization that startup left for later. Each
+ * invocation starts a new process (untimed). Same prerequisites as {@link StartupBenchmark};
+ * the admin user seeded by {@code DataInitializer} must exist.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FirstRequestBenchmark {
+
+    @Param({"jar", "aot-cds"})
+    public String mode;
+
+    private AppProcess app;
+
+    @Setup(Level.Invocation)
+    public void start() throws Exception {
+        app = AppProcess.start(mode);
+    }
+
+    @Benchmark
+    public int loginAndLoadClients() throws Exception {
+        return app.loginAndLoadClients("admin@gmail.com", "admin");
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        app.stop();
+    }
+}
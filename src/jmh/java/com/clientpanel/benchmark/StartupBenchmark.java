@@ -0,0 +1,48 @@
+package com.clientpanel.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Wall-clock time from launching the JVM to the first HTTP response, for the plain jar and
+ * with AppCDS and/or AOT initialization. Needs {@code mvn -Pfaststart package} first and a
+ * reachable database in {@code DB_URL}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    @Param({"jar", "cds", "aot", "aot-cds"})
+    public String mode;
+
+    private AppProcess app;
+
+    @Benchmark
+    public void startUntilFirstResponse() throws Exception {
+        app = AppProcess.start(mode);
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        if (app != null) {
+            app.stop();
+            app = null;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.clientpanel.benchmark;
+
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.clientpanel.config.ConcurrencyLimitingDataSource;
+import com.clientpanel.config.OffloadingPasswordEncoder;
+import com.clientpanel.service.PasswordHashingPool;
+
+/**
+ * Request throughput of the default Tomcat-style platform pool (200 threads) against
+ * virtual-thread-per-request. Each simulated request holds a connection for a blocking query
+ * behind the 10-permit limiter; every {@code loginEvery}-th request also verifies a BCrypt
+ * hash, offloaded to the hashing pool in virtual mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class ThreadModelBenchmark {
+
+    private static final int POOL_SIZE = 10;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"200", "2000"})
+    public int concurrentRequests;
+
+    @Param({"5"})
+    public int queryMillis;
+
+    @Param({"50"})
+    public int loginEvery;
+
+    private ExecutorService executor;
+    private PasswordHashingPool hashingPool;
+    private DataSource dataSource;
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = "virtual".equals(mode);
+        executor = virtual ? Executors.newVirtualThreadPerTaskExecutor() : Executors.newFixedThreadPool(200);
+        hashingPool = new PasswordHashingPool(0, 1000, Duration.ofSeconds(30));
+        dataSource = new ConcurrencyLimitingDataSource(new SleepingDataSource(), POOL_SIZE, Duration.ofSeconds(30));
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder();
+        encoder = virtual ? new OffloadingPasswordEncoder(bcrypt, hashingPool) : bcrypt;
+        hash = bcrypt.encode("benchmark-password");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        hashingPool.shutdown();
+    }
+
+    /** One unit = a burst of {@code concurrentRequests} requests, all awaited. */
+    @Benchmark
+    public int requestBurst() throws Exception {
+        List<Future<Boolean>> futures = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            boolean login = i % loginEvery == 0;
+            futures.add(executor.submit(() -> handle(login)));
+        }
+        int ok = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get()) {
+                ok++;
+            }
+        }
+        return ok;
+    }
+
+    private boolean handle(boolean login) throws SQLException, InterruptedException {
+        if (login && !encoder.matches("benchmark-password", hash)) {
+            return false;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            Thread.sleep(queryMillis);
+            return !connection.isClosed();
+        }
+    }
+
+    /** Hands out inert connections; the query latency is simulated by the caller. */
+    private static final class SleepingDataSource implements DataSource {
+
+        @Override
+        public Connection getConnection() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "isClosed" -> false;
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        default -> null;
+                    });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return null;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) {
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) {
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return 0;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            return Logger.getGlobal();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            throw new SQLException("Not a wrapper");
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return false;
+        }
+    }
+}
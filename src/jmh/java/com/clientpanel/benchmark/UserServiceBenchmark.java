@@ -0,0 +1,135 @@
+package com.clientpanel.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.clientpanel.dto.ClientSlice;
+import com.clientpanel.model.User;
+import com.clientpanel.repository.ClientSummary;
+import com.clientpanel.repository.UserRepository;
+import com.clientpanel.service.ClientConflictService;
+import com.clientpanel.service.CustomUserDetailsService;
+import com.clientpanel.service.UserService;
+
+/**
+ * Per-call latency of the read paths behind the client pages and login, against the seeded
+ * H2 database. Keys rotate through the data set so no single row stays hot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class UserServiceBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private UserRepository userRepository;
+    private ClientConflictService conflictService;
+    private CustomUserDetailsService userDetailsService;
+    private String middleCursor;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        userService = context.getBean(UserService.class);
+        userRepository = context.getBean(UserRepository.class);
+        conflictService = context.getBean(ClientConflictService.class);
+        userDetailsService = context.getBean(CustomUserDetailsService.class);
+
+        // Walk to roughly the middle of the listing to get a representative "after" cursor
+        ClientSlice<ClientSummary> slice = userService.getUserSlice(null, null, BenchmarkContext.CLIENTS / 2);
+        middleCursor = slice.nextCursor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private int nextIndex() {
+        next = (next + 7919) % BenchmarkContext.CLIENTS;
+        return next;
+    }
+
+    @Benchmark
+    public Optional<User> findByEmail() {
+        return userService.getUserByEmail(BenchmarkContext.email(nextIndex()));
+    }
+
+    @Benchmark
+    public Optional<User> findByMobile() {
+        return userRepository.findByMobile(BenchmarkContext.mobile(nextIndex()));
+    }
+
+    @Benchmark
+    public Optional<User> findByPhoneNumberId() {
+        return userRepository.findByPhoneNumberId(BenchmarkContext.phoneNumberId(nextIndex()));
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername(BenchmarkContext.email(nextIndex()));
+    }
+
+    @Benchmark
+    public ClientSlice<ClientSummary> firstPage() {
+        return userService.getUserSlice(null, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ClientSlice<ClientSummary> keysetPageMiddle() {
+        return userService.getUserSlice(middleCursor, null, PAGE_SIZE);
+    }
+
+    /** The offset listing the keyset pages replaced, for comparison. */
+    @Benchmark
+    public Object offsetPageMiddle() {
+        int page = BenchmarkContext.CLIENTS / 2 / PAGE_SIZE;
+        return userService.getAllUsers(PageRequest.of(page, PAGE_SIZE, Sort.by("createdAt", "clientId")));
+    }
+
+    /** The original edit-form sequence: one existence query per unique field. */
+    @Benchmark
+    public void uniquenessChecksPerField(Blackhole blackhole) {
+        int i = nextIndex();
+        String clientId = BenchmarkContext.clientId(i);
+        blackhole.consume(userService.isEmailUniqueExcluding(BenchmarkContext.email(i), clientId));
+        blackhole.consume(userService.isMobileUniqueExcluding(BenchmarkContext.mobile(i), clientId));
+        blackhole.consume(userService.isPhoneNumberIdUniqueExcluding(BenchmarkContext.phoneNumberId(i), clientId));
+    }
+
+    @Benchmark
+    public List<String> uniquenessChecksAggregated() {
+        int i = nextIndex();
+        User candidate = User.builder()
+                .email(BenchmarkContext.email(i))
+                .mobile(BenchmarkContext.mobile(i))
+                .phoneNumberId(BenchmarkContext.phoneNumberId(i))
+                .build();
+        return conflictService.findConflictsExcluding(candidate, BenchmarkContext.clientId(i));
+    }
+}
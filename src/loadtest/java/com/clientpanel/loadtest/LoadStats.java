@@ -0,0 +1,138 @@
+package com.clientpanel.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-endpoint latency histograms (microsecond resolution) and error counts. Nothing is
+ * recorded until {@link #startMeasuring()}, so warm-up requests do not skew the results.
+ */
+final class LoadStats {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentSkipListMap<>();
+    private volatile long measureStartNanos = Long.MAX_VALUE;
+    private volatile long measureEndNanos;
+
+    void startMeasuring() {
+        measureStartNanos = System.nanoTime();
+    }
+
+    void stopMeasuring() {
+        measureEndNanos = System.nanoTime();
+    }
+
+    void success(String endpoint, long startNanos, long endNanos) {
+        if (startNanos >= measureStartNanos) {
+            endpoint(endpoint).latency.recordValue(TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos));
+        }
+    }
+
+    void failure(String endpoint, long startNanos) {
+        if (startNanos >= measureStartNanos) {
+            endpoint(endpoint).errors.increment();
+        }
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-26s %9s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Row row : rows()) {
+            out.printf(Locale.ROOT, "%-26s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", row.endpoint(), row.requests(),
+                    row.errors(), row.throughput(), row.p50(), row.p95(), row.p99(), row.max());
+        }
+        out.printf(Locale.ROOT, "%-26s %9d %7d %9.1f%n", "TOTAL", totalRequests(), totalErrors(), totalThroughput());
+    }
+
+    void writeCsv(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,requests,errors,throughput_per_s,p50_ms,p95_ms,p99_ms,max_ms");
+        for (Row row : rows()) {
+            lines.add(String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f", row.endpoint(), row.requests(),
+                    row.errors(), row.throughput(), row.p50(), row.p95(), row.p99(), row.max()));
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.write(file, lines);
+    }
+
+    /** Threshold violations, one message each; empty when the run passes. */
+    List<String> violations(LoadTestSettings settings) {
+        List<String> violations = new ArrayList<>();
+        for (Row row : rows()) {
+            LoadTestSettings.Limit limit = settings.limitFor(row.endpoint());
+            if (row.p95() > limit.p95Millis()) {
+                violations.add(String.format(Locale.ROOT, "%s p95 %.1f ms > %.1f ms", row.endpoint(), row.p95(),
+                        limit.p95Millis()));
+            }
+            if (row.p99() > limit.p99Millis()) {
+                violations.add(String.format(Locale.ROOT, "%s p99 %.1f ms > %.1f ms", row.endpoint(), row.p99(),
+                        limit.p99Millis()));
+            }
+        }
+        long total = totalRequests() + totalErrors();
+        double errorRate = total == 0 ? 1 : (double) totalErrors() / total;
+        if (errorRate > settings.maxErrorRate()) {
+            violations.add(String.format(Locale.ROOT, "error rate %.4f > %.4f", errorRate, settings.maxErrorRate()));
+        }
+        if (totalThroughput() < settings.minThroughput()) {
+            violations.add(String.format(Locale.ROOT, "throughput %.1f req/s < %.1f req/s", totalThroughput(),
+                    settings.minThroughput()));
+        }
+        return violations;
+    }
+
+    private List<Row> rows() {
+        double seconds = measuredSeconds();
+        List<Row> rows = new ArrayList<>();
+        endpoints.forEach((name, endpoint) -> {
+            Histogram latency = endpoint.latency.copy();
+            rows.add(new Row(name, latency.getTotalCount(), endpoint.errors.sum(), latency.getTotalCount() / seconds,
+                    millis(latency, 50), millis(latency, 95), millis(latency, 99), latency.getMaxValue() / 1000.0));
+        });
+        return rows;
+    }
+
+    private long totalRequests() {
+        return endpoints.values().stream().mapToLong(endpoint -> endpoint.latency.getTotalCount()).sum();
+    }
+
+    private long totalErrors() {
+        return endpoints.values().stream().mapToLong(endpoint -> endpoint.errors.sum()).sum();
+    }
+
+    private double totalThroughput() {
+        return totalRequests() / measuredSeconds();
+    }
+
+    private double measuredSeconds() {
+        return Math.max(measureEndNanos - measureStartNanos, 1) / 1e9;
+    }
+
+    private static double millis(Histogram latency, double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private Endpoint endpoint(String name) {
+        return endpoints.computeIfAbsent(name, key -> new Endpoint());
+    }
+
+    private static final class Endpoint {
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    private record Row(String endpoint, long requests, long errors, double throughput, double p50, double p95,
+                       double p99, double max) {
+    }
+}
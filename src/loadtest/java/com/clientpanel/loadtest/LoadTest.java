@@ -0,0 +1,80 @@
+package com.clientpanel.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.clientpanel.ClientPanelApplication;
+
+/**
+ * Boots the application against in-memory H2 (profile {@code loadtest}), seeds the data set
+ * and drives it with concurrent virtual users over real HTTP, through the security filter
+ * chain. Prints per-endpoint throughput and latency percentiles, writes them as CSV and
+ * exits non-zero when a threshold is crossed: {@code mvn -Ploadtest test-compile exec:exec}
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ClientPanelApplication.class)
+                .profiles("loadtest")
+                .run(args);
+        List<String> violations;
+        try {
+            LoadTestData.seed(context.getBean(JdbcTemplate.class), settings);
+            URI base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            violations = run(settings, base);
+        } finally {
+            context.close();
+        }
+        if (!violations.isEmpty()) {
+            System.out.println("Load test FAILED:");
+            violations.forEach(violation -> System.out.println("  " + violation));
+            System.exit(1);
+        }
+        System.out.println("Load test passed");
+        System.exit(0);
+    }
+
+    private static List<String> run(LoadTestSettings settings, URI base) throws Exception {
+        LoadStats stats = new LoadStats();
+        // Redirects are checked, not followed, so a failed login or rejected form counts as an error
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long start = System.nanoTime();
+        long deadline = start + settings.warmup().plus(settings.duration()).toNanos();
+        long rampStep = settings.warmup().toNanos() / 2 / settings.users();
+
+        System.out.printf("Load test: %d users, %d clients, %s warm-up, %s measured%n", settings.users(),
+                settings.clients(), settings.warmup(), settings.duration());
+        List<Thread> users = new ArrayList<>(settings.users());
+        for (int user = 0; user < settings.users(); user++) {
+            users.add(Thread.ofVirtual().name("load-user-" + user)
+                    .start(new VirtualUser(user, http, base, stats, settings, deadline)));
+            Thread.sleep(Duration.ofNanos(rampStep));
+        }
+        Thread.sleep(Duration.ofNanos(Math.max(start + settings.warmup().toNanos() - System.nanoTime(), 0)));
+        stats.startMeasuring();
+        for (Thread user : users) {
+            user.join();
+        }
+        stats.stopMeasuring();
+
+        stats.print(System.out);
+        stats.writeCsv(settings.report());
+        System.out.println("Report written to " + settings.report().toAbsolutePath());
+        return stats.violations(settings);
+    }
+}
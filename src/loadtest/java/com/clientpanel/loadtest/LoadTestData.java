@@ -0,0 +1,78 @@
+package com.clientpanel.loadtest;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Deterministic data set: {@code clients} seeded clients plus one operator login per virtual
+ * user. Virtual users derive seeded values from the same functions, so they never need to
+ * scrape them from pages.
+ */
+final class LoadTestData {
+
+    static final String PASSWORD = "loadtest";
+
+    private LoadTestData() {
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, LoadTestSettings settings) {
+        // One shared hash: seeding thousands of BCrypt hashes would dominate startup
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>(settings.clients() + settings.users());
+        for (int i = 0; i < settings.clients(); i++) {
+            Timestamp created = Timestamp.valueOf(base.plusMinutes(i));
+            rows.add(new Object[] {clientId(i), email(i), "Client " + i, mobile(i), phoneNumberId(i), hash,
+                    null, "ROLE_CLIENT", "Active", created, created});
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int user = 0; user < settings.users(); user++) {
+            rows.add(new Object[] {String.format("op%03d", user), operatorEmail(user), "Operator " + user,
+                    String.format("3%09d", user), String.format("2%014d", user), hash, null, "ROLE_ADMIN", "Active",
+                    now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO users (client_id, email, name, mobile, phone_number_id, pass,
+                                   chat_prefix, role, status, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    static String operatorEmail(int user) {
+        return String.format("operator%03d@load.test", user);
+    }
+
+    static String clientId(int i) {
+        return String.format("s%07d", i);
+    }
+
+    static String email(int i) {
+        return clientId(i) + "@load.test";
+    }
+
+    static String mobile(int i) {
+        return String.format("8%09d", i);
+    }
+
+    static String phoneNumberId(int i) {
+        return String.format("4%014d", i);
+    }
+
+    // Clients added during the run: unique per user and sequence, within the field limits
+    static String newClientId(int user, int seq) {
+        return String.format("n%03d%06d", user, seq);
+    }
+
+    static String newMobile(int user, int seq) {
+        return String.format("7%03d%08d", user, seq);
+    }
+
+    static String newPhoneNumberId(int user, int seq) {
+        return String.format("6%03d%011d", user, seq);
+    }
+}
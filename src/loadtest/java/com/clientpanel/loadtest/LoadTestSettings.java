@@ -0,0 +1,87 @@
+package com.clientpanel.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load-test knobs, read from {@code loadtest.*} system properties (set by the Maven profile).
+ *
+ * @param users concurrent virtual users, each one browser session at a time
+ * @param clients seeded data-set size
+ * @param warmup time before measuring starts; users ramp up over its first half
+ * @param duration measured time after the warm-up
+ * @param thinkTime pause between a user's requests
+ * @param p95Millis fail when an endpoint's p95 exceeds this, unless it has its own limit
+ * @param p99Millis fail when an endpoint's p99 exceeds this, unless it has its own limit
+ * @param endpointLimits per-endpoint limits, e.g. for the BCrypt-bound login and add client
+ * @param maxErrorRate fail when the share of failed requests exceeds this
+ * @param minThroughput fail when total requests per second fall below this (0 disables)
+ * @param report CSV file for the per-endpoint results
+ */
+record LoadTestSettings(int users, int clients, Duration warmup, Duration duration, Duration thinkTime,
+                        double p95Millis, double p99Millis, Map<String, Limit> endpointLimits,
+                        double maxErrorRate, double minThroughput, Path report) {
+
+    /** Latency limits of one endpoint, in milliseconds. */
+    record Limit(double p95Millis, double p99Millis) {
+    }
+
+    LoadTestSettings {
+        if (users < 1 || users > 999) {
+            throw new IllegalArgumentException("loadtest.users must be between 1 and 999");
+        }
+        if (clients < users) {
+            // Each user edits its own slice of the data set, so edits never conflict
+            throw new IllegalArgumentException("loadtest.clients must be at least loadtest.users");
+        }
+    }
+
+    Limit limitFor(String endpoint) {
+        return endpointLimits.getOrDefault(endpoint, new Limit(p95Millis, p99Millis));
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 20),
+                Integer.getInteger("loadtest.clients", 10_000),
+                duration("loadtest.warmup", "PT15S"),
+                duration("loadtest.duration", "PT60S"),
+                duration("loadtest.think-time", "PT0.1S"),
+                number("loadtest.p95-ms", "500"),
+                number("loadtest.p99-ms", "1000"),
+                limits(System.getProperty("loadtest.endpoint-limits",
+                        "POST /login=3000/5000;POST /clients/add=3000/5000")),
+                number("loadtest.max-error-rate", "0.01"),
+                number("loadtest.min-throughput", "0"),
+                Path.of(System.getProperty("loadtest.report", "target/loadtest-report.csv")));
+    }
+
+    private static Duration duration(String key, String defaultValue) {
+        return Duration.parse(System.getProperty(key, defaultValue));
+    }
+
+    // "POST /login=3000/5000;POST /clients/add=3000/5000": endpoint=p95/p99, as named in the report
+    private static Map<String, Limit> limits(String value) {
+        Map<String, Limit> limits = new LinkedHashMap<>();
+        for (String entry : value.split(";")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int equals = entry.lastIndexOf('=');
+            int slash = entry.lastIndexOf('/');
+            if (equals < 0 || slash < equals) {
+                throw new IllegalArgumentException("loadtest.endpoint-limits entry must be endpoint=p95/p99: " + entry);
+            }
+            limits.put(entry.substring(0, equals).strip(), new Limit(
+                    Double.parseDouble(entry.substring(equals + 1, slash).strip()),
+                    Double.parseDouble(entry.substring(slash + 1).strip())));
+        }
+        return Map.copyOf(limits);
+    }
+
+    private static double number(String key, String defaultValue) {
+        return Double.parseDouble(System.getProperty(key, defaultValue));
+    }
+}
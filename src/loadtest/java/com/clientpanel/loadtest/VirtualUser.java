@@ -0,0 +1,198 @@
+package com.clientpanel.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * One operator clicking through the panel like a browser: log in (with the CSRF token from
+ * the login page), then repeat dashboard, two list pages, add a client and edit a client,
+ * then log out and start over. A failed step is counted and ends the session.
+ */
+final class VirtualUser implements Runnable {
+
+    private static final int FLOWS_PER_SESSION = 5;
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+    private static final Pattern VERSION = Pattern.compile("name=\"version\" value=\"(\\d+)\"");
+    private static final Pattern NEXT_PAGE = Pattern.compile("href=\"/clients\\?after=([^\"]+)\"");
+    private static final Pattern SESSION_COOKIE = Pattern.compile("JSESSIONID=([^;]+)");
+
+    private final int user;
+    private final HttpClient http;
+    private final URI base;
+    private final LoadStats stats;
+    private final LoadTestSettings settings;
+    private final long deadlineNanos;
+
+    private String sessionId;
+    private int added;
+    private int edits;
+
+    VirtualUser(int user, HttpClient http, URI base, LoadStats stats, LoadTestSettings settings,
+                long deadlineNanos) {
+        this.user = user;
+        this.http = http;
+        this.base = base;
+        this.stats = stats;
+        this.settings = settings;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public void run() {
+        while (!expired()) {
+            try {
+                session();
+            } catch (StepFailed e) {
+                sessionId = null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void session() throws InterruptedException {
+        sessionId = null;
+        String loginPage = get("GET /login", "/login");
+        Map<String, String> login = new LinkedHashMap<>();
+        login.put("_csrf", match(CSRF, loginPage));
+        login.put("email", LoadTestData.operatorEmail(user));
+        login.put("password", LoadTestData.PASSWORD);
+        post("POST /login", "/login", login, "/dashboard");
+
+        for (int i = 0; i < FLOWS_PER_SESSION && !expired(); i++) {
+            get("GET /dashboard", "/dashboard");
+            String firstPage = get("GET /clients", "/clients");
+            Matcher next = NEXT_PAGE.matcher(firstPage);
+            if (next.find()) {
+                get("GET /clients?after=", "/clients?after=" + next.group(1));
+            }
+            addClient();
+            editClient();
+        }
+        post("POST /logout", "/logout", Map.of(), "/login");
+    }
+
+    private void addClient() throws InterruptedException {
+        String form = get("GET /clients/add", "/clients/add");
+        int seq = added++;
+        String clientId = LoadTestData.newClientId(user, seq);
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("_csrf", match(CSRF, form));
+        fields.put("clientId", clientId);
+        fields.put("email", clientId + "@load.test");
+        fields.put("name", "Load client " + clientId);
+        fields.put("mobile", LoadTestData.newMobile(user, seq));
+        fields.put("phoneNumberId", LoadTestData.newPhoneNumberId(user, seq));
+        fields.put("pass", "client-password");
+        fields.put("chatPrefix", "");
+        post("POST /clients/add", "/clients/add", fields, "/clients");
+    }
+
+    // Each user edits only its own slice of the seeded clients, so edits never conflict
+    private void editClient() throws InterruptedException {
+        int perUser = settings.clients() / settings.users();
+        int i = user + settings.users() * (edits++ % perUser);
+        String clientId = LoadTestData.clientId(i);
+        String form = get("GET /clients/edit/{id}", "/clients/edit/" + clientId);
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("_csrf", match(CSRF, form));
+        fields.put("version", match(VERSION, form));
+        fields.put("clientId", clientId);
+        fields.put("email", LoadTestData.email(i));
+        fields.put("name", "Client " + i + " edit " + edits);
+        fields.put("mobile", LoadTestData.mobile(i));
+        fields.put("phoneNumberId", LoadTestData.phoneNumberId(i));
+        fields.put("chatPrefix", "");
+        fields.put("status", "Active");
+        post("POST /clients/edit/{id}", "/clients/edit/" + clientId, fields, "/clients");
+    }
+
+    private String get(String endpoint, String path) throws InterruptedException {
+        return exchange(endpoint, request(path).GET().build(), response -> response.statusCode() == 200).body();
+    }
+
+    /** Form POST that must answer with a redirect to {@code expectedLocation}. */
+    private void post(String endpoint, String path, Map<String, String> fields, String expectedLocation)
+            throws InterruptedException {
+        String body = fields.entrySet().stream()
+                .map(field -> field.getKey() + "=" + URLEncoder.encode(field.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        HttpRequest request = request(path)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        // A re-rendered form (200) means validation or a conflict rejected the submission
+        exchange(endpoint, request, response -> response.statusCode() == 302 && expectedLocation.equals(
+                URI.create(response.headers().firstValue("Location").orElse("")).getPath()));
+    }
+
+    /** Sends one request, timing it; anything but the expected response fails the step. */
+    private HttpResponse<String> exchange(String endpoint, HttpRequest request,
+                                          Predicate<HttpResponse<String>> expected) throws InterruptedException {
+        thinkTime();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            long end = System.nanoTime();
+            response.headers().allValues("Set-Cookie").forEach(cookie -> {
+                Matcher session = SESSION_COOKIE.matcher(cookie);
+                if (session.find()) {
+                    sessionId = session.group(1);
+                }
+            });
+            if (expected.test(response)) {
+                stats.success(endpoint, start, end);
+                return response;
+            }
+        } catch (IOException e) {
+            // Counted below like any other failed request
+        }
+        stats.failure(endpoint, start);
+        throw new StepFailed();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(base.resolve(path));
+        if (sessionId != null) {
+            builder.header("Cookie", "JSESSIONID=" + sessionId);
+        }
+        return builder;
+    }
+
+    private void thinkTime() throws InterruptedException {
+        if (!settings.thinkTime().isZero()) {
+            Thread.sleep(settings.thinkTime());
+        }
+    }
+
+    private boolean expired() {
+        return System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    private static String match(Pattern pattern, String page) {
+        Matcher matcher = pattern.matcher(page);
+        if (!matcher.find()) {
+            throw new StepFailed();
+        }
+        return matcher.group(1);
+    }
+
+    private static final class StepFailed extends RuntimeException {
+
+        StepFailed() {
+            super(null, null, false, false);
+        }
+    }
+}
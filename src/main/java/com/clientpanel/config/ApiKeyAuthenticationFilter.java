@@ -0,0 +1,93 @@
+package com.clientpanel.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Authenticates {@code Authorization: Bearer <key>} requests against the configured API keys,
+ * stored as SHA-256 digests so the configuration holds no usable secret. A valid key signs the
+ * request in with {@code role} under the key's name, for that request only; an unknown key
+ * gets a 401 at once. Costs one SHA-256, no database query and no BCrypt.
+ */
+public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
+
+    static final String INTEGRATION = "INTEGRATION";
+    static final String METRICS = "METRICS";
+
+    private static final String BEARER = "Bearer ";
+
+    private final Map<String, String> namesByDigest;
+    private final String role;
+    private final SecurityContextHolderStrategy contextHolder = SecurityContextHolder.getContextHolderStrategy();
+
+    /**
+     * @param keys {@code name:sha256-hex} entries
+     * @param role granted to every key, without the {@code ROLE_} prefix
+     */
+    public ApiKeyAuthenticationFilter(List<String> keys, String role) {
+        this.role = role;
+        Map<String, String> namesByDigest = new HashMap<>();
+        for (String key : keys) {
+            int colon = key.indexOf(':');
+            if (colon < 1 || colon == key.length() - 1) {
+                throw new IllegalArgumentException("API key entry must be name:sha256-hex");
+            }
+            namesByDigest.put(key.substring(colon + 1).strip().toLowerCase(Locale.ROOT), key.substring(0, colon).strip());
+        }
+        this.namesByDigest = Map.copyOf(namesByDigest);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader("Authorization");
+        if (header == null || !header.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String name = namesByDigest.get(sha256(header.substring(BEARER.length()).strip()));
+        if (name == null) {
+            unauthorized(response);
+            return;
+        }
+        SecurityContext context = contextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(name, null,
+                AuthorityUtils.createAuthorityList("ROLE_" + role)));
+        contextHolder.setContext(context);
+        chain.doFilter(request, response);
+    }
+
+    /** Plain 401 with a Bearer challenge; no error dispatch, which would go through the login chain. */
+    static void unauthorized(HttpServletResponse response) {
+        response.setHeader("WWW-Authenticate", "Bearer");
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+    }
+
+    private static String sha256(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+}
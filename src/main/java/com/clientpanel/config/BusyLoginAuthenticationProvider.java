@@ -0,0 +1,34 @@
+package com.clientpanel.config;
+
+import com.clientpanel.service.PasswordHashingBusyException;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * Turns a saturated {@link com.clientpanel.service.PasswordHashingPool} into a
+ * {@link LoginBusyException}, so the login page can say so instead of the request failing
+ * with a server error.
+ */
+public class BusyLoginAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+
+    public BusyLoginAuthenticationProvider(AuthenticationProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        try {
+            return delegate.authenticate(authentication);
+        } catch (PasswordHashingBusyException e) {
+            throw new LoginBusyException("Login is busy", e);
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
@@ -3,46 +3,45 @@ package com.clientpanel.config;
 import com.clientpanel.model.User;
 import com.clientpanel.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
 
-@Configuration
+@Slf4j
+@Component
 @RequiredArgsConstructor
 public class DataInitializer {
 
+    private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
-    @Bean
-    public CommandLineRunner initializeData(UserRepository userRepository) {
-        return args -> {
-            try {
-                // Only create test user if it doesn't exist
-                if (userRepository.findByEmail("admin@gmail.com").isEmpty()) {
-                    User testUser = User.builder()
-                            .clientId("test001")
-                            .email("admin@gmail.com")
-                            .name("Admin User")
-                            .mobile("1234567890")
-                            .phoneNumberId("123456789012345")
-                            .pass(passwordEncoder.encode("admin"))
-                            .chatPrefix("Welcome to our service!")
-                            .role("ROLE_ADMIN")
-                            .status("Active")
-                            .build();
+    // Runs on the task executor once the app is ready, so startup never waits on the lookup or BCrypt
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeData() {
+        try {
+            // Only create test user if it doesn't exist
+            if (userRepository.findByEmail("admin@gmail.com").isEmpty()) {
+                User testUser = User.builder()
+                        .clientId("test001")
+                        .email("admin@gmail.com")
+                        .name("Admin User")
+                        .mobile("1234567890")
+                        .phoneNumberId("123456789012345")
+                        .pass(passwordEncoder.encode("admin"))
+                        .chatPrefix("Welcome to our service!")
+                        .role("ROLE_ADMIN")
+                        .status("Active")
+                        .build();
 
-                    userRepository.save(testUser);
-                    System.out.println("\n========================================");
-                    System.out.println("TEST USER CREATED SUCCESSFULLY");
-                    System.out.println("========================================");
-                    System.out.println("Email: admin@gmail.com");
-                    System.out.println("Password: admin");
-                    System.out.println("========================================\n");
-                }
-            } catch (Exception e) {
-                System.err.println("Error initializing test user: " + e.getMessage());
+                userRepository.save(testUser);
+                log.warn("Test user created email=admin@gmail.com with the default password; change it before real use");
             }
-        };
+        } catch (Exception e) {
+            log.error("Error initializing test user", e);
+        }
     }
 }
@@ -0,0 +1,64 @@
+package com.clientpanel.config;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.clientpanel.model.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Caffeine-backed JCache regions for Hibernate's second-level cache. Entity, natural-id and
+ * query regions are bounded and expire; the update-timestamps region must never drop entries
+ * (that would let stale query results through), so it is unbounded and never expires.
+ */
+@Configuration(proxyBeanMethods = false)
+public class EntityCacheConfig {
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${clientpanel.entity-cache.maximum-size:10000}") long maximumSize,
+            @Value("${clientpanel.entity-cache.expire-after-write:PT10M}") Duration expireAfterWrite,
+            @Value("${clientpanel.entity-cache.query-maximum-size:1000}") long queryMaximumSize) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        cacheManager.createCache(User.class.getName(), bounded(maximumSize, expireAfterWrite));
+        cacheManager.createCache(User.class.getName() + "##NaturalId", bounded(maximumSize, expireAfterWrite));
+        cacheManager.createCache(QUERY_RESULTS_REGION, bounded(queryMaximumSize, expireAfterWrite));
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, withStatistics(new CaffeineConfiguration<>()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Every region is created above; a missing one is a naming mistake, not something to paper over
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        return withStatistics(configuration);
+    }
+
+    private static CaffeineConfiguration<Object, Object> withStatistics(CaffeineConfiguration<Object, Object> configuration) {
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
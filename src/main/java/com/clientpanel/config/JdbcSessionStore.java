@@ -0,0 +1,381 @@
+package com.clientpanel.config;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializationFailedException;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP sessions shared by every node through the {@code http_session} tables, so they survive
+ * restarts and need no sticky load balancing.
+ * <p>
+ * Each lookup reads the one session row; attributes are only fetched and deserialized when
+ * their version differs from the node's near-cache copy. A save rewrites just the attributes
+ * that changed. A request that changed nothing but the access time writes nothing: access
+ * times are coalesced per session and flushed in one batch every {@code flush-interval}, and
+ * expiry allows that much grace so another node's unflushed access cannot be missed.
+ */
+@Slf4j
+public class JdbcSessionStore implements SessionRepository<JdbcSessionStore.StoredSession> {
+
+    private static final String SELECT_SESSION = "SELECT primary_id, creation_time, last_access_time, "
+            + "max_inactive_seconds, attributes_version FROM http_session WHERE session_id = ?";
+    private static final String SELECT_ATTRIBUTES = "SELECT attribute_name, attribute_bytes "
+            + "FROM http_session_attributes WHERE session_primary_id = ?";
+    private static final String INSERT_SESSION = "INSERT INTO http_session (primary_id, session_id, creation_time, "
+            + "last_access_time, max_inactive_seconds, expiry_time, attributes_version) VALUES (?, ?, ?, ?, ?, ?, 0)";
+    private static final String UPDATE_SESSION = "UPDATE http_session SET last_access_time = ?, "
+            + "max_inactive_seconds = ?, expiry_time = ?, attributes_version = attributes_version + 1 "
+            + "WHERE primary_id = ?";
+    private static final String UPDATE_SESSION_ID = "UPDATE http_session SET session_id = ? WHERE primary_id = ?";
+    private static final String TOUCH_SESSION = "UPDATE http_session SET last_access_time = ?, expiry_time = ? "
+            + "WHERE primary_id = ? AND last_access_time < ?";
+    private static final String INSERT_ATTRIBUTE = "INSERT INTO http_session_attributes "
+            + "(session_primary_id, attribute_name, attribute_bytes) VALUES (?, ?, ?)";
+    private static final String DELETE_ATTRIBUTE = "DELETE FROM http_session_attributes "
+            + "WHERE session_primary_id = ? AND attribute_name = ?";
+    private static final String DELETE_SESSION = "DELETE FROM http_session WHERE session_id = ?";
+    private static final String DELETE_EXPIRED = "DELETE FROM http_session WHERE expiry_time < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration timeout;
+    private final long graceMillis;
+    private final Cache<String, Cached> nearCache;
+    private final Map<String, Touch> pendingTouches = new ConcurrentHashMap<>();
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer;
+    private final Counter nearCacheHits;
+    private final Counter nearCacheMisses;
+    private final Counter touchesFlushed;
+
+    public JdbcSessionStore(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry, Duration timeout, long nearCacheSize,
+                            Duration flushInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.timeout = timeout;
+        this.graceMillis = flushInterval.toMillis();
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheSize)
+                .expireAfterAccess(timeout)
+                .build();
+        this.deserializer = new DeserializingConverter(getClass().getClassLoader());
+        this.nearCacheHits = Counter.builder("clientpanel.session.near-cache").tag("result", "hit")
+                .register(meterRegistry);
+        this.nearCacheMisses = Counter.builder("clientpanel.session.near-cache").tag("result", "miss")
+                .register(meterRegistry);
+        this.touchesFlushed = Counter.builder("clientpanel.session.touches.flushed").register(meterRegistry);
+        meterRegistry.gauge("clientpanel.session.touches.pending", pendingTouches, Map::size);
+    }
+
+    @Override
+    public StoredSession createSession() {
+        MapSession session = new MapSession();
+        session.setMaxInactiveInterval(timeout);
+        return new StoredSession(session, UUID.randomUUID().toString(), true);
+    }
+
+    @Override
+    public StoredSession findById(String id) {
+        List<SessionRow> rows = jdbcTemplate.query(SELECT_SESSION, (rs, n) -> new SessionRow(rs.getString(1),
+                rs.getLong(2), rs.getLong(3), rs.getInt(4), rs.getLong(5)), id);
+        if (rows.isEmpty()) {
+            nearCache.invalidate(id);
+            return null;
+        }
+        SessionRow row = rows.get(0);
+        Touch touch = pendingTouches.get(row.primaryId());
+        long lastAccess = touch != null ? Math.max(touch.lastAccess(), row.lastAccess()) : row.lastAccess();
+        if (lastAccess + row.maxInactiveSeconds() * 1000L + graceMillis < System.currentTimeMillis()) {
+            // Left for cleanupExpired, which every node runs
+            nearCache.invalidate(id);
+            return null;
+        }
+
+        Map<String, Object> attributes;
+        Cached cached = nearCache.getIfPresent(id);
+        if (cached != null && cached.primaryId().equals(row.primaryId()) && cached.version() == row.version()) {
+            nearCacheHits.increment();
+            attributes = cached.attributes();
+        } else {
+            nearCacheMisses.increment();
+            try {
+                attributes = loadAttributes(row.primaryId());
+            } catch (SerializationFailedException e) {
+                // Written by an incompatible build; treat it as logged out
+                log.debug("Discarding session with unreadable attributes: {}", e.getMessage());
+                return null;
+            }
+            nearCache.put(id, new Cached(row.primaryId(), row.version(), attributes));
+        }
+
+        MapSession session = new MapSession(id);
+        session.setCreationTime(Instant.ofEpochMilli(row.creationTime()));
+        session.setLastAccessedTime(Instant.ofEpochMilli(lastAccess));
+        session.setMaxInactiveInterval(Duration.ofSeconds(row.maxInactiveSeconds()));
+        attributes.forEach(session::setAttribute);
+        return new StoredSession(session, row.primaryId(), false);
+    }
+
+    @Override
+    public void save(StoredSession session) {
+        if (session.isNew) {
+            insert(session);
+        } else {
+            if (session.idChanged()) {
+                jdbcTemplate.update(UPDATE_SESSION_ID, session.getId(), session.primaryId);
+                nearCache.invalidate(session.originalId);
+            }
+            if (!session.changedAttributes.isEmpty() || session.maxInactiveChanged) {
+                update(session);
+            } else if (session.getLastAccessedTime().isAfter(session.loadedLastAccess)) {
+                pendingTouches.merge(session.primaryId, new Touch(session.getLastAccessedTime().toEpochMilli(),
+                        session.getMaxInactiveInterval().toSeconds()), Touch::latest);
+            }
+        }
+        session.saved();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        jdbcTemplate.update(DELETE_SESSION, id);
+        nearCache.invalidate(id);
+    }
+
+    /** Writes the coalesced access times of sessions that were only read. */
+    @Scheduled(fixedDelayString = "${clientpanel.session.flush-interval:PT10S}")
+    public void flushTouches() {
+        List<Object[]> batch = new ArrayList<>();
+        for (String primaryId : pendingTouches.keySet()) {
+            Touch touch = pendingTouches.remove(primaryId);
+            if (touch != null) {
+                batch.add(new Object[] {touch.lastAccess(), touch.expiryTime(), primaryId, touch.lastAccess()});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(TOUCH_SESSION, batch);
+            touchesFlushed.increment(batch.size());
+        } catch (DataAccessException e) {
+            // Sessions only age sooner; the next access queues a fresh touch
+            log.warn("Failed to flush {} session access times", batch.size(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${clientpanel.session.cleanup-interval:PT1M}")
+    public void cleanupExpired() {
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED, System.currentTimeMillis() - graceMillis);
+        if (deleted > 0) {
+            log.debug("Deleted {} expired sessions", deleted);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushTouches();
+    }
+
+    private void insert(StoredSession session) {
+        long lastAccess = session.getLastAccessedTime().toEpochMilli();
+        long maxInactive = session.getMaxInactiveInterval().toSeconds();
+        Map<String, Object> attributes = session.attributes();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(INSERT_SESSION, session.primaryId, session.getId(),
+                    session.getCreationTime().toEpochMilli(), lastAccess, maxInactive,
+                    lastAccess + maxInactive * 1000L);
+            insertAttributes(session.primaryId, attributes);
+        });
+        nearCache.put(session.getId(), new Cached(session.primaryId, 0, Map.copyOf(attributes)));
+    }
+
+    // Bumps the attributes version, which makes every node's near-cache copy stale
+    private void update(StoredSession session) {
+        long lastAccess = session.getLastAccessedTime().toEpochMilli();
+        long maxInactive = session.getMaxInactiveInterval().toSeconds();
+        Map<String, Object> changed = new HashMap<>();
+        for (String name : session.changedAttributes) {
+            Object value = session.getAttribute(name);
+            if (value != null) {
+                changed.put(name, value);
+            }
+        }
+        List<Object[]> removed = session.changedAttributes.stream()
+                .map(name -> new Object[] {session.primaryId, name})
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(UPDATE_SESSION, lastAccess, maxInactive, lastAccess + maxInactive * 1000L,
+                    session.primaryId);
+            jdbcTemplate.batchUpdate(DELETE_ATTRIBUTE, removed);
+            insertAttributes(session.primaryId, changed);
+        });
+        pendingTouches.remove(session.primaryId);
+        nearCache.invalidate(session.getId());
+    }
+
+    private void insertAttributes(String primaryId, Map<String, Object> attributes) {
+        if (attributes.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(attributes.size());
+        attributes.forEach((name, value) -> rows.add(new Object[] {primaryId, name, serializer.convert(value)}));
+        jdbcTemplate.batchUpdate(INSERT_ATTRIBUTE, rows);
+    }
+
+    private Map<String, Object> loadAttributes(String primaryId) {
+        Map<String, Object> attributes = new HashMap<>();
+        jdbcTemplate.query(SELECT_ATTRIBUTES, rs -> {
+            attributes.put(rs.getString(1), deserializer.convert(rs.getBytes(2)));
+        }, primaryId);
+        return Map.copyOf(attributes);
+    }
+
+    private record SessionRow(String primaryId, long creationTime, long lastAccess, int maxInactiveSeconds,
+                              long version) {
+    }
+
+    /** Deserialized attributes as of {@code version}; shared read-only between requests. */
+    private record Cached(String primaryId, long version, Map<String, Object> attributes) {
+    }
+
+    private record Touch(long lastAccess, long maxInactiveSeconds) {
+
+        long expiryTime() {
+            return lastAccess + maxInactiveSeconds * 1000L;
+        }
+
+        Touch latest(Touch other) {
+            return other.lastAccess > lastAccess ? other : this;
+        }
+    }
+
+    /** A {@link MapSession} that remembers what changed since it was loaded or last saved. */
+    public static final class StoredSession implements Session {
+
+        private final MapSession delegate;
+        private final String primaryId;
+        private final Set<String> changedAttributes = new HashSet<>();
+        private boolean isNew;
+        private String originalId;
+        private Instant loadedLastAccess;
+        private boolean maxInactiveChanged;
+
+        private StoredSession(MapSession delegate, String primaryId, boolean isNew) {
+            this.delegate = delegate;
+            this.primaryId = primaryId;
+            this.isNew = isNew;
+            this.originalId = delegate.getId();
+            this.loadedLastAccess = delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return delegate.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            delegate.setAttribute(attributeName, attributeValue);
+            changedAttributes.add(attributeName);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            delegate.removeAttribute(attributeName);
+            changedAttributes.add(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            delegate.setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            maxInactiveChanged |= !interval.equals(delegate.getMaxInactiveInterval());
+            delegate.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return delegate.isExpired();
+        }
+
+        private boolean idChanged() {
+            return !originalId.equals(getId());
+        }
+
+        private Map<String, Object> attributes() {
+            Map<String, Object> attributes = new HashMap<>();
+            for (String name : getAttributeNames()) {
+                attributes.put(name, getAttribute(name));
+            }
+            return attributes;
+        }
+
+        private void saved() {
+            isNew = false;
+            originalId = getId();
+            loadedLastAccess = getLastAccessedTime();
+            changedAttributes.clear();
+            maxInactiveChanged = false;
+        }
+    }
+}
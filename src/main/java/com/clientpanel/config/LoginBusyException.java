@@ -0,0 +1,14 @@
+package com.clientpanel.config;
+
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+/**
+ * Login refused because the password hashing pool is saturated. An internal service
+ * exception, so the provider manager fails at once instead of trying other providers.
+ */
+public class LoginBusyException extends InternalAuthenticationServiceException {
+
+    public LoginBusyException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+}
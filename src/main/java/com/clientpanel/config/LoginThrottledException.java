@@ -0,0 +1,14 @@
+package com.clientpanel.config;
+
+import org.springframework.security.authentication.AccountStatusException;
+
+/**
+ * Login attempt refused by the {@link com.clientpanel.service.LoginThrottle}. An account
+ * status exception, so the provider manager fails at once instead of trying other providers.
+ */
+public class LoginThrottledException extends AccountStatusException {
+
+    public LoginThrottledException(String msg) {
+        super(msg);
+    }
+}
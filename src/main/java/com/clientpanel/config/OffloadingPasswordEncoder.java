@@ -0,0 +1,34 @@
+package com.clientpanel.config;
+
+import com.clientpanel.service.PasswordHashingPool;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs BCrypt on the bounded {@link PasswordHashingPool} instead of the calling thread, so
+ * thousands of virtual request threads cannot all burn CPU on hashing at once.
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingPool hashingPool;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, PasswordHashingPool hashingPool) {
+        this.delegate = delegate;
+        this.hashingPool = hashingPool;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hashingPool.call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hashingPool.call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
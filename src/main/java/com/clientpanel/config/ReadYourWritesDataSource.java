@@ -0,0 +1,34 @@
+package com.clientpanel.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Read-only target for the routing proxy: the replica, unless the current request is pinned
+ * to the primary because its session wrote within the replica lag window.
+ */
+class ReadYourWritesDataSource extends DelegatingDataSource {
+
+    private final DataSource primary;
+
+    ReadYourWritesDataSource(DataSource replica, DataSource primary) {
+        super(replica);
+        this.primary = primary;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return ReadYourWritesFilter.isPinnedToPrimary() ? primary.getConnection() : super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return ReadYourWritesFilter.isPinnedToPrimary()
+                ? primary.getConnection(username, password)
+                : super.getConnection(username, password);
+    }
+}
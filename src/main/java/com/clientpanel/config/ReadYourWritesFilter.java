@@ -0,0 +1,77 @@
+package com.clientpanel.config;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.clientpanel.event.ClientChangeEvent;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Keeps a session's reads on the primary for {@code window} after it commits a client change,
+ * so the redirect that follows an edit never shows replica-stale data. The write time is put
+ * in the session as soon as the change commits, before the controller redirects: the session
+ * store saves it when the response commits, so the follow-up request sees it on any node.
+ * Requests without a session, and work outside a request, always read from the replica.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final String LAST_WRITE = ReadYourWritesFilter.class.getName() + ".lastWrite";
+    private static final ThreadLocal<RequestState> CURRENT = new ThreadLocal<>();
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    static boolean isPinnedToPrimary() {
+        RequestState state = CURRENT.get();
+        return state != null && state.pinned;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestState state = new RequestState(request);
+        HttpSession session = request.getSession(false);
+        if (session != null && session.getAttribute(LAST_WRITE) instanceof Long lastWrite) {
+            state.pinned = System.currentTimeMillis() - lastWrite < windowMillis;
+        }
+        CURRENT.set(state);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onClientChange(ClientChangeEvent event) {
+        RequestState state = CURRENT.get();
+        if (state == null) {
+            return;
+        }
+        state.pinned = true;
+        HttpSession session = state.request.getSession(false);
+        if (session != null) {
+            session.setAttribute(LAST_WRITE, System.currentTimeMillis());
+        }
+    }
+
+    private static final class RequestState {
+        final HttpServletRequest request;
+        boolean pinned;
+
+        RequestState(HttpServletRequest request) {
+            this.request = request;
+        }
+    }
+}
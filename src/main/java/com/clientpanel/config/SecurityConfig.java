@@ -1,10 +1,17 @@
 package com.clientpanel.config;
 
 import com.clientpanel.service.CustomUserDetailsService;
+import com.clientpanel.service.LoginThrottle;
+import com.clientpanel.service.PasswordHashingPool;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -13,6 +20,11 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.authentication.ExceptionMappingAuthenticationFailureHandler;
+
+import java.util.List;
+import java.util.Map;
 
 @Configuration(proxyBeanMethods = false)
 @EnableWebSecurity
@@ -22,16 +34,21 @@ public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingPool hashingPool, MeterRegistry meterRegistry,
+                                           @Value("${clientpanel.hashing.offload:false}") boolean offload) {
+        PasswordEncoder encoder = new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
+        return offload ? new OffloadingPasswordEncoder(encoder, hashingPool) : encoder;
     }
 
+    // The only provider: registering it on the filter chain as well made failed logins verify twice
     @Bean
-    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder, LoginThrottle loginThrottle,
+                                                         @Value("${clientpanel.login-throttle.enabled:true}") boolean throttle) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder);
-        return authProvider;
+        AuthenticationProvider provider = new BusyLoginAuthenticationProvider(authProvider);
+        return throttle ? new ThrottlingAuthenticationProvider(provider, loginThrottle) : provider;
     }
 
     @Bean
@@ -39,25 +56,77 @@ public class SecurityConfig {
         return authConfig.getAuthenticationManager();
     }
 
+    // Integration endpoints: API keys only, no session, no CSRF (nothing rides on cookies), 401 instead
+    // of a login redirect. Operator JSON endpoints (/api/routing, /api/clients/{id}/audit) stay on the login chain
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, PasswordEncoder passwordEncoder) throws Exception {
+    @Order(1)
+    public SecurityFilterChain apiFilterChain(HttpSecurity http,
+                                              @Value("${clientpanel.api.keys:}") List<String> apiKeys) throws Exception {
+        http.securityMatcher("/api/clients", "/api/clients/*");
+        apiKeyOnly(http, new ApiKeyAuthenticationFilter(apiKeys, ApiKeyAuthenticationFilter.INTEGRATION))
+                .authorizeHttpRequests(authz -> authz
+                        .anyRequest().hasRole(ApiKeyAuthenticationFilter.INTEGRATION)
+                );
+
+        return http.build();
+    }
+
+    // Scrapers authenticate like integrations, with keys of their own that cannot read client data;
+    // health stays open for load balancers
+    @Bean
+    @Order(2)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http,
+                                                   @Value("${clientpanel.metrics.keys:}") List<String> metricsKeys)
+            throws Exception {
+        http.securityMatcher("/actuator/**");
+        apiKeyOnly(http, new ApiKeyAuthenticationFilter(metricsKeys, ApiKeyAuthenticationFilter.METRICS))
+                .authorizeHttpRequests(authz -> authz
+                        .requestMatchers("/actuator/health").permitAll()
+                        .anyRequest().hasRole(ApiKeyAuthenticationFilter.METRICS)
+                );
+
+        return http.build();
+    }
+
+    private static HttpSecurity apiKeyOnly(HttpSecurity http, ApiKeyAuthenticationFilter keys) throws Exception {
+        return http
+                .csrf(csrf -> csrf.disable())
+                .requestCache(cache -> cache.disable())
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .addFilterBefore(keys, AnonymousAuthenticationFilter.class)
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint((request, response, e) -> ApiKeyAuthenticationFilter.unauthorized(response))
+                        .accessDeniedHandler((request, response, e) -> response.setStatus(HttpStatus.FORBIDDEN.value()))
+                );
+    }
+
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        ExceptionMappingAuthenticationFailureHandler loginFailure = new ExceptionMappingAuthenticationFailureHandler();
+        loginFailure.setDefaultFailureUrl("/login?error");
+        loginFailure.setExceptionMappings(Map.of(
+                LoginThrottledException.class.getName(), "/login?throttled",
+                LoginBusyException.class.getName(), "/login?busy"));
+
         http
                 .csrf(csrf -> csrf
                         .ignoringRequestMatchers("/login", "/logout")
                 )
                 .authorizeHttpRequests(authz -> authz
-                        .requestMatchers("/", "/login", "/logout", "/css/**", "/js/**", "/images/**").permitAll()
+                        // /error too, so integration API errors (e.g. 404) render as errors instead of a login redirect
+                        .requestMatchers("/", "/login", "/logout", "/error", "/css/**", "/js/**", "/images/**").permitAll()
                         .requestMatchers("/dashboard", "/clients/**").authenticated()
                         .anyRequest().authenticated()
                 )
-                .authenticationProvider(authenticationProvider(passwordEncoder))
                 .formLogin(form -> form
                         .loginPage("/login")
                         .loginProcessingUrl("/login")
                         .usernameParameter("email")
                         .passwordParameter("password")
                         .defaultSuccessUrl("/dashboard", true)
-                        .failureUrl("/login?error")
+                        .failureHandler(loginFailure)
                         .permitAll()
                 )
                 .logout(logout -> logout
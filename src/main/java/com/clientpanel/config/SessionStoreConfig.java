@@ -0,0 +1,39 @@
+package com.clientpanel.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Replaces the servlet container's in-memory sessions with {@link JdbcSessionStore} when
+ * {@code clientpanel.session.store=jdbc}; with {@code memory} Tomcat's sessions are used
+ * unchanged. Spring Boot registers the session filter ahead of Spring Security.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication
+@ConditionalOnProperty(name = "clientpanel.session.store", havingValue = "jdbc")
+@EnableSpringHttpSession
+public class SessionStoreConfig {
+
+    @Bean
+    public JdbcSessionStore sessionRepository(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${spring.session.timeout:30m}") Duration timeout,
+            @Value("${clientpanel.session.near-cache.maximum-size:1000}") long nearCacheSize,
+            @Value("${clientpanel.session.flush-interval:PT10S}") Duration flushInterval) {
+        return new JdbcSessionStore(jdbcTemplate, new TransactionTemplate(transactionManager), meterRegistry,
+                timeout, nearCacheSize, flushInterval);
+    }
+}
@@ -0,0 +1,50 @@
+package com.clientpanel.config;
+
+import com.clientpanel.service.LoginThrottle;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * Consults the {@link LoginThrottle} before the delegate looks up the user or verifies the
+ * password, so throttled attempts cost neither a query nor a BCrypt verification.
+ */
+public class ThrottlingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final LoginThrottle throttle;
+
+    public ThrottlingAuthenticationProvider(AuthenticationProvider delegate, LoginThrottle throttle) {
+        this.delegate = delegate;
+        this.throttle = throttle;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String ip = remoteAddress(authentication);
+        String email = authentication.getName();
+        if (throttle.tryAcquire(ip, email).isPresent()) {
+            throw new LoginThrottledException("Too many login attempts");
+        }
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            throttle.succeeded(ip, email);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    // The client's address: with forwarded headers enabled, Tomcat has already applied X-Forwarded-For from a listed proxy
+    private static String remoteAddress(Authentication authentication) {
+        if (authentication.getDetails() instanceof WebAuthenticationDetails details
+                && details.getRemoteAddress() != null) {
+            return details.getRemoteAddress();
+        }
+        return "unknown";
+    }
+}
@@ -0,0 +1,48 @@
+package com.clientpanel.config;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Times template rendering separately from the handler as {@code clientpanel.view.render},
+ * tagged by view name. Starts after the controller returns and stops once the view is written.
+ */
+public class ViewRenderTimingInterceptor implements HandlerInterceptor {
+
+    private static final String SAMPLE = ViewRenderTimingInterceptor.class.getName() + ".sample";
+    private static final String VIEW = ViewRenderTimingInterceptor.class.getName() + ".view";
+
+    private final MeterRegistry meterRegistry;
+
+    public ViewRenderTimingInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        // Redirects render nothing worth timing
+        if (modelAndView != null && modelAndView.getViewName() != null
+                && !modelAndView.getViewName().startsWith("redirect:")) {
+            request.setAttribute(VIEW, modelAndView.getViewName());
+            request.setAttribute(SAMPLE, Timer.start(meterRegistry));
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(SAMPLE) instanceof Timer.Sample sample) {
+            sample.stop(Timer.builder("clientpanel.view.render")
+                    .description("Template render time")
+                    .tag("view", (String) request.getAttribute(VIEW))
+                    .tag("outcome", ex == null ? "success" : "error")
+                    .register(meterRegistry));
+        }
+    }
+}
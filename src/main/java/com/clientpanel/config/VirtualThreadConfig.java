@@ -0,0 +1,38 @@
+package com.clientpanel.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Database admission control for the virtual-thread mode ({@code spring.threads.virtual.enabled}).
+ * Enabled by setting {@code clientpanel.db.max-concurrency}, normally to the Hikari pool size.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty("clientpanel.db.max-concurrency")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        int maxConcurrency = environment.getRequiredProperty("clientpanel.db.max-concurrency", Integer.class);
+        Duration acquireTimeout = environment.getProperty("clientpanel.db.acquire-timeout", Duration.class,
+                Duration.ofSeconds(30));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ConcurrencyLimitingDataSource)) {
+                    return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package com.clientpanel.controller;
+
+import com.clientpanel.dto.ClientField;
+import com.clientpanel.dto.ClientSlice;
+import com.clientpanel.event.ClientSnapshot;
+import com.clientpanel.service.ClientLookupService;
+import com.clientpanel.service.ClientLookupService.Batch;
+import com.clientpanel.service.ClientLookupService.Key;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Client data for integrations. Every endpoint takes {@code fields} (comma-separated, default
+ * all) and writes only those fields, straight to the response with a streaming generator.
+ */
+@RestController
+@RequestMapping("/api/clients")
+@RequiredArgsConstructor
+public class ClientApiController {
+
+    private final ClientLookupService lookupService;
+    private final ObjectMapper objectMapper;
+
+    /** Compact keyset-paged listing: {@code {"clients": [...], "next": cursor|null}}. */
+    @GetMapping
+    public void list(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(required = false) String fields,
+            HttpServletResponse response) throws IOException {
+        Set<ClientField> selected = ClientField.parse(fields);
+        ClientSlice<ClientSnapshot> slice = lookupService.page(after, size);
+        try (JsonGenerator json = open(response)) {
+            json.writeStartObject();
+            writeClients(json, slice.content(), selected);
+            json.writeStringField("next", slice.nextCursor());
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * Multi-get by {@code clientIds} or {@code phoneNumberIds} (exactly one, comma-separated):
+     * {@code {"clients": [...], "missing": [...]}}, in request order.
+     */
+    @GetMapping("/batch")
+    public void batch(
+            @RequestParam(required = false) List<String> clientIds,
+            @RequestParam(required = false) List<String> phoneNumberIds,
+            @RequestParam(required = false) String fields,
+            HttpServletResponse response) throws IOException {
+        if ((clientIds == null) == (phoneNumberIds == null)) {
+            throw new IllegalArgumentException("Pass either clientIds or phoneNumberIds");
+        }
+        Set<ClientField> selected = ClientField.parse(fields);
+        Batch batch = clientIds != null
+                ? lookupService.findAll(Key.CLIENT_ID, clientIds)
+                : lookupService.findAll(Key.PHONE_NUMBER_ID, phoneNumberIds);
+        try (JsonGenerator json = open(response)) {
+            json.writeStartObject();
+            writeClients(json, batch.found(), selected);
+            json.writeArrayFieldStart("missing");
+            for (String id : batch.missing()) {
+                json.writeString(id);
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    @GetMapping("/{clientId}")
+    public void get(
+            @PathVariable String clientId,
+            @RequestParam(required = false) String fields,
+            HttpServletResponse response) throws IOException {
+        Set<ClientField> selected = ClientField.parse(fields);
+        List<ClientSnapshot> found = lookupService.findAll(Key.CLIENT_ID, List.of(clientId)).found();
+        if (found.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        try (JsonGenerator json = open(response)) {
+            writeClient(json, found.get(0), selected);
+        }
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+
+    private JsonGenerator open(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        return objectMapper.getFactory().createGenerator(response.getOutputStream(), JsonEncoding.UTF8);
+    }
+
+    private static void writeClients(JsonGenerator json, List<ClientSnapshot> clients, Set<ClientField> fields)
+            throws IOException {
+        json.writeArrayFieldStart("clients");
+        for (ClientSnapshot client : clients) {
+            writeClient(json, client, fields);
+        }
+        json.writeEndArray();
+    }
+
+    private static void writeClient(JsonGenerator json, ClientSnapshot client, Set<ClientField> fields)
+            throws IOException {
+        json.writeStartObject();
+        for (ClientField field : fields) {
+            json.writeStringField(field.jsonName(), field.valueOf(client));
+        }
+        json.writeEndObject();
+    }
+}
@@ -0,0 +1,27 @@
+package com.clientpanel.controller;
+
+import com.clientpanel.dto.ClientAuditPage;
+import com.clientpanel.service.ClientAuditTrail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/clients")
+@RequiredArgsConstructor
+public class ClientAuditController {
+
+    private final ClientAuditTrail auditTrail;
+
+    /** Change history of one client, newest first; also covers deleted clients. */
+    @GetMapping("/{clientId}/audit")
+    public ClientAuditPage history(
+            @PathVariable String clientId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return auditTrail.history(clientId, page, size);
+    }
+}
@@ -1,41 +1,100 @@
 package com.clientpanel.controller;
 
+import com.clientpanel.dto.ClientPatch;
+import com.clientpanel.dto.ClientSlice;
 import com.clientpanel.model.User;
+import com.clientpanel.repository.ClientSummary;
+import com.clientpanel.service.ClientConflictService;
+import com.clientpanel.service.ClientFieldValidator;
 import com.clientpanel.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
 @Controller
 @RequestMapping("/clients")
 @RequiredArgsConstructor
 public class ClientController {
 
     private final UserService userService;
+    private final ClientConflictService conflictService;
+    private final ClientFieldValidator fieldValidator;
     private static final int PAGE_SIZE = 10;
+    private static final int SEARCH_LIMIT = 50;
+    private static final int AUTOCOMPLETE_LIMIT = 10;
+
+    private static final Map<String, String> DUPLICATE_MESSAGES = Map.of(
+            "clientId", "Client ID is already in use",
+            "email", "Email is already in use",
+            "mobile", "Mobile number is already in use",
+            "phoneNumberId", "Phone number ID is already in use");
 
     @GetMapping
     public String listClients(
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) String q,
+            NativeWebRequest request,
             Model model) {
-        Pageable pageable = PageRequest.of(page, PAGE_SIZE);
-        Page<User> clients = userService.getAllUsers(pageable);
+        long total = userService.getTotalUsersCount();
+        if (q != null && !q.isBlank()) {
+            List<ClientSummary> matches = userService.searchUsers(q, SEARCH_LIMIT);
+            if (ConditionalGet.notModified(request, model, pageValidator(matches, "q=" + q, total),
+                    lastModified(matches))) {
+                return null;
+            }
+            model.addAttribute("clients", matches);
+            model.addAttribute("query", q);
+            model.addAttribute("totalElements", total);
+            return "client/list";
+        }
+
+        ClientSlice<ClientSummary> clients;
+        try {
+            clients = userService.getUserSlice(after, before, PAGE_SIZE);
+        } catch (IllegalArgumentException e) {
+            // Stale or tampered cursor: fall back to the first page
+            clients = userService.getUserSlice(null, null, PAGE_SIZE);
+        }
 
-        model.addAttribute("clients", clients);
-        model.addAttribute("currentPage", page);
-        model.addAttribute("totalPages", clients.getTotalPages());
-        model.addAttribute("totalElements", clients.getTotalElements());
+        String cursors = clients.previousCursor() + "/" + clients.nextCursor();
+        if (ConditionalGet.notModified(request, model, pageValidator(clients.content(), cursors, total),
+                lastModified(clients.content()))) {
+            return null;
+        }
+        model.addAttribute("clients", clients.content());
+        model.addAttribute("nextCursor", clients.nextCursor());
+        model.addAttribute("previousCursor", clients.previousCursor());
+        model.addAttribute("totalElements", total);
 
         return "client/list";
     }
 
+    @GetMapping("/search")
+    @ResponseBody
+    public List<ClientSummary> autocomplete(@RequestParam String q) {
+        if (q.trim().length() < 2) {
+            return List.of();
+        }
+        return userService.searchUsers(q, AUTOCOMPLETE_LIMIT);
+    }
+
     @GetMapping("/add")
     public String showAddForm(Model model) {
         model.addAttribute("user", new User());
@@ -53,21 +112,8 @@ public class ClientController {
             return "client/add";
         }
 
-        // Check for duplicate email
-        if (userService.emailExists(user.getEmail())) {
-            bindingResult.rejectValue("email", "error.email", "Email is already in use");
-            return "client/add";
-        }
-
-        // Check for duplicate mobile
-        if (userService.mobileExists(user.getMobile())) {
-            bindingResult.rejectValue("mobile", "error.mobile", "Mobile number is already in use");
-            return "client/add";
-        }
-
-        // Check for duplicate phone number ID
-        if (userService.phoneNumberIdExists(user.getPhoneNumberId())) {
-            bindingResult.rejectValue("phoneNumberId", "error.phoneNumberId", "Phone number ID is already in use");
+        // Check all unique fields in one round trip
+        if (rejectDuplicates(conflictService.findConflicts(user), bindingResult)) {
             return "client/add";
         }
 
@@ -75,6 +121,12 @@ public class ClientController {
             userService.createUser(user);
             redirectAttributes.addFlashAttribute("successMessage", "Client added successfully!");
             return "redirect:/clients";
+        } catch (DataIntegrityViolationException e) {
+            if (rejectDuplicates(conflictService.conflictsFrom(e), bindingResult)) {
+                return "client/add";
+            }
+            model.addAttribute("errorMessage", "Error adding client: " + e.getMostSpecificCause().getMessage());
+            return "client/add";
         } catch (Exception e) {
             model.addAttribute("errorMessage", "Error adding client: " + e.getMessage());
             return "client/add";
@@ -84,9 +136,13 @@ public class ClientController {
     @GetMapping("/edit/{clientId}")
     public String showEditForm(
             @PathVariable String clientId,
+            NativeWebRequest request,
             Model model) {
         User user = userService.getUserById(clientId)
                 .orElseThrow(() -> new RuntimeException("Client not found with id: " + clientId));
+        if (ConditionalGet.notModified(request, model, clientId + "@" + user.getVersion(), user.getUpdatedAt())) {
+            return null;
+        }
         model.addAttribute("user", user);
         return "client/edit";
     }
@@ -99,68 +155,46 @@ public class ClientController {
             RedirectAttributes redirectAttributes,
             Model model) {
 
-        System.out.println("📝 Update request for client: " + clientId);
-        
+        log.debug("Update request clientId={}", clientId);
+
         // Validate individual fields manually (skip password validation for edit)
-        if (user.getEmail() == null || user.getEmail().isEmpty()) {
-            bindingResult.rejectValue("email", "error.email", "Email is required");
-        } else if (!user.getEmail().matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
-            bindingResult.rejectValue("email", "error.email", "Email should be valid");
-        }
-        
-        if (user.getName() == null || user.getName().isEmpty()) {
-            bindingResult.rejectValue("name", "error.name", "Name is required");
-        }
-        
-        if (user.getMobile() == null || user.getMobile().isEmpty()) {
-            bindingResult.rejectValue("mobile", "error.mobile", "Mobile number is required");
-        } else if (!user.getMobile().matches("^[0-9]{10,15}$")) {
-            bindingResult.rejectValue("mobile", "error.mobile", "Mobile number must be numeric between 10 and 15 digits");
-        }
-        
-        if (user.getPhoneNumberId() == null || user.getPhoneNumberId().isEmpty()) {
-            bindingResult.rejectValue("phoneNumberId", "error.phoneNumberId", "Phone number ID is required");
-        } else if (!user.getPhoneNumberId().matches("^[0-9]{15}$")) {
-            bindingResult.rejectValue("phoneNumberId", "error.phoneNumberId", "Phone number ID must be exactly 15 numeric digits");
-        }
-        
-        if (bindingResult.hasErrors()) {
-            System.out.println("❌ Validation errors found: " + bindingResult.getErrorCount());
-            bindingResult.getAllErrors().forEach(error -> System.out.println("  - " + error.getDefaultMessage()));
-            return "client/edit";
-        }
+        fieldValidator.validateForEdit(user, bindingResult);
 
-        // Check for duplicate email (excluding current user)
-        userService.getUserByEmail(user.getEmail()).ifPresent(existingUser -> {
-            if (!existingUser.getClientId().equals(clientId)) {
-                System.out.println("❌ Email already in use: " + user.getEmail());
-                bindingResult.rejectValue("email", "error.email", "Email is already in use");
+        if (bindingResult.hasErrors()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Update rejected clientId={} errors={}", clientId, bindingResult.getFieldErrors().stream()
+                        .map(FieldError::getField).toList());
             }
-        });
-
-        // Check for duplicate mobile (excluding current user)
-        if (!userService.isMobileUniqueExcluding(user.getMobile(), clientId)) {
-            System.out.println("❌ Mobile already in use: " + user.getMobile());
-            bindingResult.rejectValue("mobile", "error.mobile", "Mobile number is already in use");
+            return "client/edit";
         }
 
-        // Check for duplicate phone number ID (excluding current user)
-        if (!userService.isPhoneNumberIdUniqueExcluding(user.getPhoneNumberId(), clientId)) {
-            System.out.println("❌ Phone number ID already in use: " + user.getPhoneNumberId());
-            bindingResult.rejectValue("phoneNumberId", "error.phoneNumberId", "Phone number ID is already in use");
-        }
+        // Check all unique fields (excluding current user) in one round trip
+        rejectDuplicates(conflictService.findConflictsExcluding(user, clientId), bindingResult);
 
         if (bindingResult.hasErrors()) {
-            System.out.println("❌ Duplicate field errors found");
+            log.debug("Update rejected clientId={} reason=duplicate", clientId);
             return "client/edit";
         }
 
+        // A form posted without a version can only be stale
+        long version = user.getVersion() != null ? user.getVersion() : -1;
         try {
-            userService.updateUser(clientId, user);
+            userService.patchUser(clientId, version, ClientPatch.from(user));
             redirectAttributes.addFlashAttribute("successMessage", "Client updated successfully!");
             return "redirect:/clients";
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.debug("Update rejected clientId={} reason=stale version={}", clientId, version);
+            model.addAttribute("errorMessage",
+                    "This client was changed by someone else while you were editing. Reload the page to see the latest values.");
+            return "client/edit";
+        } catch (DataIntegrityViolationException e) {
+            if (rejectDuplicates(conflictService.conflictsFrom(e), bindingResult)) {
+                return "client/edit";
+            }
+            model.addAttribute("errorMessage", "Error updating client: " + e.getMostSpecificCause().getMessage());
+            return "client/edit";
         } catch (Exception e) {
-            System.err.println("❌ Error updating client: " + e.getMessage());
+            log.error("Update failed clientId={}", clientId, e);
             model.addAttribute("errorMessage", "Error updating client: " + e.getMessage());
             return "client/edit";
         }
@@ -178,4 +212,49 @@ public class ClientController {
         }
         return "redirect:/clients";
     }
+
+    @PostMapping("/bulk")
+    public String bulkAction(
+            @RequestParam String action,
+            @RequestParam(name = "clientIds", required = false) List<String> clientIds,
+            RedirectAttributes redirectAttributes) {
+        if (clientIds == null || clientIds.isEmpty()) {
+            redirectAttributes.addFlashAttribute("errorMessage", "Select at least one client.");
+            return "redirect:/clients";
+        }
+        try {
+            String message = switch (action) {
+                case "activate" -> userService.bulkUpdateStatus(clientIds, "Active") + " client(s) activated.";
+                case "deactivate" -> userService.bulkUpdateStatus(clientIds, "Inactive") + " client(s) deactivated.";
+                case "delete" -> userService.bulkDeleteUsers(clientIds) + " client(s) deleted.";
+                default -> throw new IllegalArgumentException("Unknown bulk action: " + action);
+            };
+            redirectAttributes.addFlashAttribute("successMessage", message);
+        } catch (Exception e) {
+            log.error("Bulk action failed action={} count={}", action, clientIds.size(), e);
+            redirectAttributes.addFlashAttribute("errorMessage", "Error applying bulk action: " + e.getMessage());
+        }
+        return "redirect:/clients";
+    }
+
+    private static boolean rejectDuplicates(List<String> fields, BindingResult bindingResult) {
+        for (String field : fields) {
+            bindingResult.rejectValue(field, "error." + field, DUPLICATE_MESSAGES.get(field));
+        }
+        return !fields.isEmpty();
+    }
+
+    // Every edit path bumps updated_at, so row ids and timestamps identify the rendered page
+    private static String pageValidator(List<ClientSummary> rows, String position, long total) {
+        StringBuilder validator = new StringBuilder(position).append('|').append(total);
+        for (ClientSummary row : rows) {
+            validator.append('|').append(row.getClientId()).append('@').append(row.getUpdatedAt());
+        }
+        return validator.toString();
+    }
+
+    private static LocalDateTime lastModified(List<ClientSummary> rows) {
+        return rows.stream().map(ClientSummary::getUpdatedAt).filter(Objects::nonNull)
+                .max(Comparator.naturalOrder()).orElse(null);
+    }
 }
@@ -0,0 +1,53 @@
+package com.clientpanel.controller;
+
+import com.clientpanel.service.ClientExportService;
+import com.clientpanel.service.ClientExportService.Format;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+@Controller
+@RequestMapping("/clients/export")
+@RequiredArgsConstructor
+public class ClientExportController {
+
+    private final ClientExportService exportService;
+
+    @GetMapping
+    public void exportClients(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        Format exportFormat = "ndjson".equalsIgnoreCase(format) ? Format.NDJSON : Format.CSV;
+        String filename = "clients-" + LocalDate.now() + (exportFormat == Format.CSV ? ".csv" : ".ndjson");
+
+        if (gzip) {
+            response.setContentType("application/gzip");
+            filename += ".gz";
+        } else {
+            response.setContentType(exportFormat == Format.CSV
+                    ? "text/csv;charset=UTF-8"
+                    : MediaType.APPLICATION_NDJSON_VALUE + ";charset=UTF-8");
+        }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+
+        OutputStream output = response.getOutputStream();
+        if (gzip) {
+            try (GZIPOutputStream compressed = new GZIPOutputStream(output, 64 * 1024)) {
+                exportService.export(exportFormat, compressed);
+            }
+        } else {
+            exportService.export(exportFormat, output);
+        }
+    }
+}
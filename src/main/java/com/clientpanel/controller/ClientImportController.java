@@ -0,0 +1,63 @@
+package com.clientpanel.controller;
+
+import com.clientpanel.dto.ImportReport;
+import com.clientpanel.dto.ImportStatus;
+import com.clientpanel.service.ClientImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Locale;
+
+@Controller
+@RequestMapping("/clients/import")
+@RequiredArgsConstructor
+public class ClientImportController {
+
+    private final ClientImportService importService;
+
+    @GetMapping
+    public String showImportForm() {
+        return "client/import";
+    }
+
+    @PostMapping
+    public String importClients(@RequestParam("file") MultipartFile file, Model model) {
+        if (file.isEmpty()) {
+            model.addAttribute("errorMessage", "Please choose a CSV or JSON file to import");
+            return "client/import";
+        }
+
+        String source = file.getOriginalFilename() != null ? file.getOriginalFilename() : "upload";
+        try (InputStream input = file.getInputStream()) {
+            ImportReport report = isJson(source, file.getContentType())
+                    ? importService.importJson(input, source)
+                    : importService.importCsv(input, source);
+            model.addAttribute("report", report);
+        } catch (IOException | RuntimeException e) {
+            model.addAttribute("errorMessage", "Error importing clients: " + e.getMessage());
+        }
+        return "client/import";
+    }
+
+    @GetMapping("/status")
+    @ResponseBody
+    public Collection<ImportStatus> importStatus() {
+        return importService.getActiveImports();
+    }
+
+    private static boolean isJson(String filename, String contentType) {
+        String name = filename.toLowerCase(Locale.ROOT);
+        return name.endsWith(".json") || name.endsWith(".ndjson") || name.endsWith(".jsonl")
+                || (contentType != null && contentType.contains("json"));
+    }
+}
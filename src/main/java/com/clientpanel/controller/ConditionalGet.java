@@ -0,0 +1,43 @@
+package com.clientpanel.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.ui.Model;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * ETag/Last-Modified validation for rendered pages, checked before the view renders.
+ * Tags are weak and include the session id because the markup embeds the session's
+ * CSRF token; pages are marked {@code private, no-cache} so browsers keep them but
+ * revalidate on every visit.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Returns {@code true} (and sets status 304) when the client's copy is still current.
+     * Pages carrying a flash message are never matched, so the message always renders.
+     */
+    static boolean notModified(NativeWebRequest request, Model model, String validator, LocalDateTime lastModified) {
+        if (model.containsAttribute("successMessage") || model.containsAttribute("errorMessage")) {
+            return false;
+        }
+        HttpServletResponse response = request.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            // Pre-empts Spring Security's no-store default, which would stop the browser revalidating
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+        String tag = validator + "|" + request.getSessionId();
+        String etag = "W/\"" + DigestUtils.md5DigestAsHex(tag.getBytes(StandardCharsets.UTF_8)) + "\"";
+        long millis = lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return request.checkNotModified(etag, millis);
+    }
+}
@@ -1,7 +1,8 @@
 package com.clientpanel.controller;
 
+import com.clientpanel.dto.StatusCounts;
 import com.clientpanel.model.User;
-import com.clientpanel.service.UserService;
+import com.clientpanel.service.ClientStatusStatistics;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -18,18 +19,16 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @RequiredArgsConstructor
 public class DashboardController {
 
-    private final UserService userService;
+    private final ClientStatusStatistics statusStatistics;
     private static final int PAGE_SIZE = 10;
 
     @GetMapping
     public String dashboard(Model model) {
-        long activeUsers = userService.getActiveUsersCount();
-        long inactiveUsers = userService.getInactiveUsersCount();
-        long totalUsers = userService.getTotalUsersCount();
+        StatusCounts counts = statusStatistics.snapshot();
 
-        model.addAttribute("activeUsers", activeUsers);
-        model.addAttribute("inactiveUsers", inactiveUsers);
-        model.addAttribute("totalUsers", totalUsers);
+        model.addAttribute("activeUsers", counts.active());
+        model.addAttribute("inactiveUsers", counts.inactive());
+        model.addAttribute("totalUsers", counts.total());
 
         return "dashboard/dashboard";
     }
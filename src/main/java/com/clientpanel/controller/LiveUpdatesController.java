@@ -0,0 +1,22 @@
+package com.clientpanel.controller;
+
+import com.clientpanel.service.ClientLiveUpdates;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+public class LiveUpdatesController {
+
+    private final ClientLiveUpdates liveUpdates;
+
+    /** Event stream for the dashboard and client list: {@code delta} and {@code resync} events. */
+    @GetMapping(path = "/clients/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return liveUpdates.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.clientpanel.controller;
+
+import com.clientpanel.dto.ClientRoute;
+import com.clientpanel.service.ClientRoutingIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/routing")
+@RequiredArgsConstructor
+public class RoutingController {
+
+    private final ClientRoutingIndex routingIndex;
+
+    @GetMapping("/{phoneNumberId}")
+    public ResponseEntity<ClientRoute> lookup(@PathVariable String phoneNumberId) {
+        return ResponseEntity.of(routingIndex.lookup(phoneNumberId));
+    }
+}
@@ -0,0 +1,6 @@
+package com.clientpanel.dto;
+
+import java.util.List;
+
+public record ClientAuditPage(List<ClientAuditRecord> entries, int page, int size, boolean hasNext) {
+}
@@ -0,0 +1,8 @@
+package com.clientpanel.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record ClientAuditRecord(long id, String action, String changedBy, LocalDateTime changedAt,
+                                Map<String, FieldChange> changes) {
+}
@@ -0,0 +1,11 @@
+package com.clientpanel.dto;
+
+import java.util.List;
+
+/**
+ * Everything that changed since the previous push: current counts, created or updated
+ * rows, and deleted client IDs.
+ */
+public record ClientDelta(StatusCounts counts, List<ClientListRow> created, List<ClientListRow> updated,
+                          List<String> deleted) {
+}
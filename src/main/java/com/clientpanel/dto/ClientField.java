@@ -0,0 +1,68 @@
+package com.clientpanel.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.clientpanel.event.ClientSnapshot;
+
+/**
+ * Client fields the JSON API can return, selected with {@code ?fields=}. The password hash
+ * is deliberately not one of them.
+ */
+public enum ClientField {
+
+    CLIENT_ID("clientId", ClientSnapshot::clientId),
+    EMAIL("email", ClientSnapshot::email),
+    NAME("name", ClientSnapshot::name),
+    MOBILE("mobile", ClientSnapshot::mobile),
+    PHONE_NUMBER_ID("phoneNumberId", ClientSnapshot::phoneNumberId),
+    CHAT_PREFIX("chatPrefix", ClientSnapshot::chatPrefix),
+    ROLE("role", ClientSnapshot::role),
+    STATUS("status", ClientSnapshot::status),
+    CREATED_AT("createdAt", client -> format(client.createdAt())),
+    UPDATED_AT("updatedAt", client -> format(client.updatedAt()));
+
+    private final String jsonName;
+    private final Function<ClientSnapshot, String> value;
+
+    ClientField(String jsonName, Function<ClientSnapshot, String> value) {
+        this.jsonName = jsonName;
+        this.value = value;
+    }
+
+    public String jsonName() {
+        return jsonName;
+    }
+
+    public String valueOf(ClientSnapshot client) {
+        return value.apply(client);
+    }
+
+    /** Parses a comma-separated list of JSON names; blank selects every field. */
+    public static Set<ClientField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(ClientField.class);
+        }
+        Set<ClientField> selected = EnumSet.noneOf(ClientField.class);
+        for (String name : fields.split(",")) {
+            selected.add(byJsonName(name.strip()));
+        }
+        return selected;
+    }
+
+    private static ClientField byJsonName(String name) {
+        for (ClientField field : values()) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + name);
+    }
+
+    private static String format(LocalDateTime timestamp) {
+        return timestamp == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp);
+    }
+}
@@ -0,0 +1,15 @@
+package com.clientpanel.dto;
+
+import com.clientpanel.event.ClientSnapshot;
+
+/**
+ * The fields a client list row shows, as pushed to live pages.
+ */
+public record ClientListRow(String clientId, String email, String name, String mobile, String phoneNumberId,
+                            String status) {
+
+    public static ClientListRow of(ClientSnapshot snapshot) {
+        return new ClientListRow(snapshot.clientId(), snapshot.email(), snapshot.name(), snapshot.mobile(),
+                snapshot.phoneNumberId(), snapshot.status());
+    }
+}
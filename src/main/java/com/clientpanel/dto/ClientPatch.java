@@ -0,0 +1,32 @@
+package com.clientpanel.dto;
+
+import com.clientpanel.model.User;
+
+/**
+ * Partial update of a client. Null fields are left unchanged.
+ */
+public record ClientPatch(
+        String email,
+        String name,
+        String mobile,
+        String phoneNumberId,
+        String chatPrefix,
+        String status) {
+
+    /**
+     * Patch from a submitted edit form; blank fields mean "keep the current value".
+     */
+    public static ClientPatch from(User form) {
+        return new ClientPatch(
+                User.normalizeEmail(blankToNull(form.getEmail())),
+                blankToNull(form.getName()),
+                blankToNull(form.getMobile()),
+                blankToNull(form.getPhoneNumberId()),
+                blankToNull(form.getChatPrefix()),
+                blankToNull(form.getStatus()));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,11 @@
+package com.clientpanel.dto;
+
+/**
+ * What message routing needs to know about the client behind a WhatsApp phone number ID.
+ */
+public record ClientRoute(String clientId, String status, String chatPrefix) {
+
+    public boolean isActive() {
+        return "Active".equals(status);
+    }
+}
@@ -0,0 +1,22 @@
+package com.clientpanel.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. Cursors are {@code null} when there is
+ * nothing further in that direction.
+ */
+public record ClientSlice<T>(List<T> content, String nextCursor, String previousCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+}
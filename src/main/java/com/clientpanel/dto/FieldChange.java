@@ -0,0 +1,4 @@
+package com.clientpanel.dto;
+
+public record FieldChange(String from, String to) {
+}
@@ -0,0 +1,10 @@
+package com.clientpanel.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} is capped; {@code failed} is the full count.
+ */
+public record ImportReport(String source, long processed, long inserted, long failed,
+                           List<ImportRowError> errors, long elapsedMillis) {
+}
@@ -0,0 +1,8 @@
+package com.clientpanel.dto;
+
+/**
+ * One client as it appears in an import file (CSV columns or JSON properties).
+ */
+public record ImportRow(String clientId, String email, String name, String mobile, String phoneNumberId,
+                        String pass, String chatPrefix) {
+}
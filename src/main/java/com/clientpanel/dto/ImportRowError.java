@@ -0,0 +1,4 @@
+package com.clientpanel.dto;
+
+public record ImportRowError(long row, String clientId, String message) {
+}
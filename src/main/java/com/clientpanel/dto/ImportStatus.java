@@ -0,0 +1,7 @@
+package com.clientpanel.dto;
+
+import java.time.LocalDateTime;
+
+public record ImportStatus(String id, String source, long processed, long inserted, long failed,
+                           LocalDateTime startedAt) {
+}
@@ -0,0 +1,4 @@
+package com.clientpanel.dto;
+
+public record StatusCounts(long active, long inactive, long total) {
+}
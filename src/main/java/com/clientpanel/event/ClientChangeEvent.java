@@ -0,0 +1,28 @@
+package com.clientpanel.event;
+
+/**
+ * Published by {@code UserService} for every client write. Listeners should use
+ * {@code @TransactionalEventListener} so they only observe committed changes.
+ */
+public record ClientChangeEvent(Type type, ClientSnapshot before, ClientSnapshot after) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static ClientChangeEvent created(ClientSnapshot after) {
+        return new ClientChangeEvent(Type.CREATED, null, after);
+    }
+
+    public static ClientChangeEvent updated(ClientSnapshot before, ClientSnapshot after) {
+        return new ClientChangeEvent(Type.UPDATED, before, after);
+    }
+
+    public static ClientChangeEvent deleted(ClientSnapshot before) {
+        return new ClientChangeEvent(Type.DELETED, before, null);
+    }
+
+    public String clientId() {
+        return after != null ? after.clientId() : before.clientId();
+    }
+}
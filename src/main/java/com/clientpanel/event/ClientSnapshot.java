@@ -0,0 +1,40 @@
+package com.clientpanel.event;
+
+import java.time.LocalDateTime;
+
+import com.clientpanel.model.User;
+
+/**
+ * Immutable copy of a client's state at a point in time. Never carries the password hash.
+ */
+public record ClientSnapshot(
+        String clientId,
+        String email,
+        String name,
+        String mobile,
+        String phoneNumberId,
+        String chatPrefix,
+        String role,
+        String status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static ClientSnapshot of(User user) {
+        return new ClientSnapshot(
+                user.getClientId(),
+                user.getEmail(),
+                user.getName(),
+                user.getMobile(),
+                user.getPhoneNumberId(),
+                user.getChatPrefix(),
+                user.getRole(),
+                user.getStatus(),
+                user.getCreatedAt(),
+                user.getUpdatedAt());
+    }
+
+    public ClientSnapshot withStatus(String newStatus, LocalDateTime newUpdatedAt) {
+        return new ClientSnapshot(clientId, email, name, mobile, phoneNumberId, chatPrefix, role, newStatus,
+                createdAt, newUpdatedAt);
+    }
+}
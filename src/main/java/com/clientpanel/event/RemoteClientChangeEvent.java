@@ -0,0 +1,11 @@
+package com.clientpanel.event;
+
+import java.util.List;
+
+/**
+ * Client changes committed by another node, in commit order. Published by
+ * {@code ClusterChangeRelay} outside any transaction, so listeners use {@code @EventListener}.
+ * Node-local caches apply them; the audit trail does not (the writing node recorded them).
+ */
+public record RemoteClientChangeEvent(List<ClientChangeEvent> changes) {
+}
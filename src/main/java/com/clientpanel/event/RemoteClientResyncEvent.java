@@ -0,0 +1,8 @@
+package com.clientpanel.event;
+
+/**
+ * Changes from other nodes may have been missed (the listening connection was lost, or a change
+ * was too large to send). Node-local caches should drop or reload everything they hold.
+ */
+public record RemoteClientResyncEvent() {
+}
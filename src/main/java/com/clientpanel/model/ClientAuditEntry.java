@@ -0,0 +1,38 @@
+package com.clientpanel.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One audited client write. {@code changes} is a JSON object of the changed fields,
+ * each with {@code from} and {@code to} values. Rows are inserted with JDBC batches by
+ * {@code ClientAuditTrail}; JPA only reads them.
+ */
+@Entity
+@Table(name = "client_audit")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientAuditEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "client_id", length = 10, nullable = false)
+    private String clientId;
+
+    @Column(name = "action", length = 20, nullable = false)
+    private String action;
+
+    @Column(name = "changed_by", length = 255, nullable = false)
+    private String changedBy;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    @Column(name = "changes", columnDefinition = "TEXT", nullable = false)
+    private String changes;
+}
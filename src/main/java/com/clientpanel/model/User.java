@@ -1,12 +1,24 @@
 package com.clientpanel.model;
 
+import com.clientpanel.service.ClientRoutingListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(ClientRoutingListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,6 +32,7 @@ public class User {
     @Pattern(regexp = "^[a-zA-Z0-9_-]+$", message = "Client ID must contain only alphanumeric, underscore, and hyphen characters")
     private String clientId;
 
+    @NaturalId(mutable = true)
     @Column(name = "email", unique = true, nullable = false, length = 255)
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
@@ -53,14 +66,26 @@ public class User {
     @Builder.Default
     private String status = "Active";
 
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Optimistic lock; the edit form round-trips it so concurrent edits are detected
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
+    // Emails are unique regardless of case and stored lower-cased, so the natural-id cache sees one key per address
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.toLowerCase(Locale.ROOT);
+    }
+
     @PrePersist
     protected void onCreate() {
+        this.email = normalizeEmail(this.email);
         if (this.createdAt == null) {
             this.createdAt = LocalDateTime.now();
         }
@@ -0,0 +1,15 @@
+package com.clientpanel.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.clientpanel.model.ClientAuditEntry;
+
+@Repository
+public interface ClientAuditRepository extends JpaRepository<ClientAuditEntry, Long> {
+
+    // Newest first; a Slice skips the count query
+    Slice<ClientAuditEntry> findByClientIdOrderByIdDesc(String clientId, Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package com.clientpanel.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns the client list renders; no password hash and no chat prefix.
+ * {@code updatedAt} is not shown but validates the page for conditional GETs.
+ */
+public interface ClientSummary {
+    String getClientId();
+    String getEmail();
+    String getName();
+    String getMobile();
+    String getPhoneNumberId();
+    String getStatus();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,11 @@
+package com.clientpanel.repository;
+
+/**
+ * Number of other clients already holding each unique value.
+ */
+public interface FieldConflicts {
+    long getClientIdConflicts();
+    long getEmailConflicts();
+    long getMobileConflicts();
+    long getPhoneNumberIdConflicts();
+}
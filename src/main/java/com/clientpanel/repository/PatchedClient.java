@@ -0,0 +1,9 @@
+package com.clientpanel.repository;
+
+import com.clientpanel.event.ClientSnapshot;
+
+/**
+ * A client's state immediately before and after a patch, read in the same statement.
+ */
+public record PatchedClient(ClientSnapshot before, ClientSnapshot after) {
+}
@@ -0,0 +1,8 @@
+package com.clientpanel.repository;
+
+public interface RoutingRow {
+    String getPhoneNumberId();
+    String getClientId();
+    String getStatus();
+    String getChatPrefix();
+}
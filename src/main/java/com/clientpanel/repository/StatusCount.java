@@ -0,0 +1,6 @@
+package com.clientpanel.repository;
+
+public interface StatusCount {
+    String getStatus();
+    long getTotal();
+}
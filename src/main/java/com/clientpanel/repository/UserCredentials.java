@@ -0,0 +1,7 @@
+package com.clientpanel.repository;
+
+/**
+ * The slice of a client that form login needs.
+ */
+public record UserCredentials(String email, String pass, String role, String status) {
+}
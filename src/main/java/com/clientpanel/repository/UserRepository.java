@@ -1,20 +1,121 @@
 package com.clientpanel.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import com.clientpanel.event.ClientSnapshot;
 import com.clientpanel.model.User;
 
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Repository
-public interface UserRepository extends JpaRepository<User, String> {
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, String>, UserRepositoryCustom {
+
+    String SUMMARY_COLUMNS = "u.clientId AS clientId, u.email AS email, u.name AS name, u.mobile AS mobile, "
+            + "u.phoneNumberId AS phoneNumberId, u.status AS status, u.createdAt AS createdAt, "
+            + "u.updatedAt AS updatedAt";
+
+    String SNAPSHOT = "new com.clientpanel.event.ClientSnapshot(u.clientId, u.email, u.name, u.mobile, "
+            + "u.phoneNumberId, u.chatPrefix, u.role, u.status, u.createdAt, u.updatedAt)";
+
+    @Query("SELECT new com.clientpanel.repository.UserCredentials(u.email, u.pass, u.role, u.status) "
+            + "FROM User u WHERE lower(u.email) = lower(:email)")
+    Optional<UserCredentials> findCredentialsByEmail(String email);
+
     Optional<User> findByMobile(String mobile);
+
+    // Query cache holds the id, the entity itself then comes from the second-level cache
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<User> findByPhoneNumberId(String phoneNumberId);
+
     Page<User> findByStatus(String status, Pageable pageable);
     Page<User> findAll(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     long countByStatus(String status);
+
+    // Keyset pagination over (created_at, client_id); each page is a bounded index range scan
+    // that selects only the listed columns
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM User u ORDER BY u.createdAt ASC, u.clientId ASC")
+    List<ClientSummary> findFirstPage(Limit limit);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM User u WHERE (u.createdAt, u.clientId) > (:createdAt, :clientId) "
+            + "ORDER BY u.createdAt ASC, u.clientId ASC")
+    List<ClientSummary> findPageAfter(LocalDateTime createdAt, String clientId, Limit limit);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM User u WHERE (u.createdAt, u.clientId) < (:createdAt, :clientId) "
+            + "ORDER BY u.createdAt DESC, u.clientId DESC")
+    List<ClientSummary> findPageBefore(LocalDateTime createdAt, String clientId, Limit limit);
+
+    // Substring match on name/email (pg_trgm GIN indexes), prefix match on mobile/phoneNumberId;
+    // exact matches rank first, then prefix matches. Patterns are escaped by the caller.
+    @Query(value = "SELECT client_id AS \"clientId\", email AS \"email\", name AS \"name\", mobile AS \"mobile\", "
+            + "phone_number_id AS \"phoneNumberId\", status AS \"status\", created_at AS \"createdAt\", "
+            + "updated_at AS \"updatedAt\" FROM users "
+            + "WHERE lower(name) LIKE :contains ESCAPE '\\' OR lower(email) LIKE :contains ESCAPE '\\' "
+            + "OR mobile LIKE :prefix ESCAPE '\\' OR phone_number_id LIKE :prefix ESCAPE '\\' "
+            + "ORDER BY CASE WHEN lower(email) = :term OR lower(name) = :term OR mobile = :term "
+            + "OR phone_number_id = :term THEN 0 "
+            + "WHEN lower(name) LIKE :prefix ESCAPE '\\' OR lower(email) LIKE :prefix ESCAPE '\\' "
+            + "OR mobile LIKE :prefix ESCAPE '\\' OR phone_number_id LIKE :prefix ESCAPE '\\' THEN 1 "
+            + "ELSE 2 END, name, client_id LIMIT :limit",
+            nativeQuery = true)
+    List<ClientSummary> search(String term, String prefix, String contains, int limit);
+
+    // One round trip for every unique field; selects only counts, never entity data.
+    // Emails compare case-insensitively, matching the lower(email) unique index
+    @Query("SELECT COALESCE(SUM(CASE WHEN u.clientId = :clientId THEN 1 ELSE 0 END), 0) AS clientIdConflicts, "
+            + "COALESCE(SUM(CASE WHEN lower(u.email) = lower(:email) THEN 1 ELSE 0 END), 0) AS emailConflicts, "
+            + "COALESCE(SUM(CASE WHEN u.mobile = :mobile THEN 1 ELSE 0 END), 0) AS mobileConflicts, "
+            + "COALESCE(SUM(CASE WHEN u.phoneNumberId = :phoneNumberId THEN 1 ELSE 0 END), 0) AS phoneNumberIdConflicts "
+            + "FROM User u WHERE (u.clientId = :clientId OR lower(u.email) = lower(:email) OR u.mobile = :mobile "
+            + "OR u.phoneNumberId = :phoneNumberId) AND u.clientId <> :excludeClientId")
+    FieldConflicts findFieldConflicts(String clientId, String email, String mobile, String phoneNumberId,
+                                      String excludeClientId);
+
+    @Query("SELECT u.status AS status, COUNT(u) AS total FROM User u GROUP BY u.status")
+    List<StatusCount> countGroupedByStatus();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.phoneNumberId AS phoneNumberId, u.clientId AS clientId, u.status AS status, "
+            + "u.chatPrefix AS chatPrefix FROM User u WHERE u.phoneNumberId IS NOT NULL")
+    Stream<RoutingRow> streamRoutingRows();
+
+    // Unordered full scan through a server-side cursor; rows are DTOs, so nothing accumulates
+    // in the persistence context and the password hash is never selected
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT " + SNAPSHOT + " FROM User u")
+    Stream<ClientSnapshot> streamSnapshots();
+
+    // Batch lookups for the JSON API: one IN query each, served by the unique indexes
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("SELECT " + SNAPSHOT + " FROM User u WHERE u.clientId IN :clientIds")
+    List<ClientSnapshot> findSnapshotsByClientIds(Collection<String> clientIds);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("SELECT " + SNAPSHOT + " FROM User u WHERE u.phoneNumberId IN :phoneNumberIds")
+    List<ClientSnapshot> findSnapshotsByPhoneNumberIds(Collection<String> phoneNumberIds);
+
+    // Keyset pages of full snapshots, same order and index as findFirstPage/findPageAfter
+    @Query("SELECT " + SNAPSHOT + " FROM User u ORDER BY u.createdAt ASC, u.clientId ASC")
+    List<ClientSnapshot> findFirstSnapshotPage(Limit limit);
+
+    @Query("SELECT " + SNAPSHOT + " FROM User u WHERE (u.createdAt, u.clientId) > (:createdAt, :clientId) "
+            + "ORDER BY u.createdAt ASC, u.clientId ASC")
+    List<ClientSnapshot> findSnapshotPageAfter(LocalDateTime createdAt, String clientId, Limit limit);
 }
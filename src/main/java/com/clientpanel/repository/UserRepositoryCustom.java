@@ -0,0 +1,44 @@
+package com.clientpanel.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.clientpanel.dto.ClientPatch;
+import com.clientpanel.event.ClientSnapshot;
+import com.clientpanel.model.User;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Persists a new client with a plain INSERT and flushes immediately, so a duplicate
+     * key surfaces here as a {@code DataIntegrityViolationException} instead of
+     * {@code save} silently merging over an existing row.
+     */
+    void insert(User user);
+
+    /**
+     * Looks a client up by its email natural id, in any letter case, served from the
+     * natural-id and entity caches when warm.
+     */
+    Optional<User> findByEmail(String email);
+
+    /**
+     * Applies the non-null fields of {@code patch} in a single UPDATE guarded by
+     * {@code expectedVersion}, bumping the version. Empty when no row matched: the client is
+     * gone or was changed concurrently. Bypasses the persistence context.
+     */
+    Optional<PatchedClient> patch(String clientId, long expectedVersion, ClientPatch patch, LocalDateTime updatedAt);
+
+    /**
+     * Sets {@code status} on every listed client that does not already have it, in one
+     * statement. Returns the changed clients as they were before the update.
+     */
+    List<ClientSnapshot> bulkUpdateStatus(Collection<String> clientIds, String status, LocalDateTime updatedAt);
+
+    /**
+     * Deletes the listed clients in one statement and returns the rows that were removed.
+     */
+    List<ClientSnapshot> bulkDelete(Collection<String> clientIds);
+}
@@ -0,0 +1,215 @@
+package com.clientpanel.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.clientpanel.dto.ClientPatch;
+import com.clientpanel.event.ClientSnapshot;
+import com.clientpanel.model.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private static final String[] SNAPSHOT_COLUMNS = {"client_id", "email", "name", "mobile", "phone_number_id",
+            "chat_prefix", "role", "status", "created_at", "updated_at"};
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    UserRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insert(User user) {
+        entityManager.persist(user);
+        entityManager.flush();
+    }
+
+    // The unwrapped Session must outlive this call, so it needs a transaction of its own when called
+    // bare; read-write, so the entity it caches comes from the primary
+    @Override
+    @Transactional
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(User.class)
+                .loadOptional(User.normalizeEmail(email));
+    }
+
+    @Override
+    public Optional<PatchedClient> patch(String clientId, long expectedVersion, ClientPatch patch,
+                                         LocalDateTime updatedAt) {
+        Map<String, String> changes = changedColumns(patch);
+        List<Object> args = new ArrayList<>(changes.values());
+        args.add(Timestamp.valueOf(updatedAt));
+        String assignments = changes.keySet().stream()
+                .map(column -> column + " = ?")
+                .collect(Collectors.joining(", ", "", changes.isEmpty() ? "" : ", "))
+                + "version = users.version + 1, updated_at = ?";
+
+        if (isPostgres()) {
+            // Self-join on the pre-update row: RETURNING sees both old and new values, and a
+            // concurrent committed edit fails the version recheck, so nothing is overwritten
+            args.add(clientId);
+            args.add(expectedVersion);
+            String sql = "UPDATE users SET " + assignments
+                    + " FROM users old WHERE users.client_id = ? AND users.version = ?"
+                    + " AND old.client_id = users.client_id"
+                    + " RETURNING " + prefixed("old", "old_") + ", " + prefixed("users", "new_");
+            List<PatchedClient> rows = jdbcTemplate.query(sql,
+                    (rs, rowNum) -> new PatchedClient(snapshot(rs, "old_"), snapshot(rs, "new_")), args.toArray());
+            return rows.stream().findFirst();
+        }
+
+        // Portable fallback: lock and read the row, then apply the same guarded UPDATE
+        List<ClientSnapshot> current = jdbcTemplate.query(
+                "SELECT " + String.join(", ", SNAPSHOT_COLUMNS)
+                        + " FROM users WHERE client_id = ? AND version = ? FOR UPDATE",
+                (rs, rowNum) -> snapshot(rs, ""), clientId, expectedVersion);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+        args.add(clientId);
+        args.add(expectedVersion);
+        jdbcTemplate.update("UPDATE users SET " + assignments + " WHERE client_id = ? AND version = ?", args.toArray());
+        ClientSnapshot before = current.get(0);
+        return Optional.of(new PatchedClient(before, applied(before, patch, updatedAt)));
+    }
+
+    @Override
+    public List<ClientSnapshot> bulkUpdateStatus(Collection<String> clientIds, String status, LocalDateTime updatedAt) {
+        String in = placeholders(clientIds.size());
+        List<Object> args = new ArrayList<>(List.of(status, Timestamp.valueOf(updatedAt)));
+        args.addAll(clientIds);
+        args.add(status);
+        String assignments = "status = ?, version = users.version + 1, updated_at = ?";
+        // IS DISTINCT FROM, unlike <>, also matches rows whose status is NULL
+
+        if (isPostgres()) {
+            return jdbcTemplate.query("UPDATE users SET " + assignments
+                            + " FROM users old WHERE users.client_id IN " + in + " AND users.status IS DISTINCT FROM ?"
+                            + " AND old.client_id = users.client_id RETURNING " + prefixed("old", ""),
+                    (rs, rowNum) -> snapshot(rs, ""), args.toArray());
+        }
+
+        List<Object> selectArgs = new ArrayList<>(clientIds);
+        selectArgs.add(status);
+        List<ClientSnapshot> before = jdbcTemplate.query("SELECT " + String.join(", ", SNAPSHOT_COLUMNS)
+                        + " FROM users WHERE client_id IN " + in + " AND status IS DISTINCT FROM ? FOR UPDATE",
+                (rs, rowNum) -> snapshot(rs, ""), selectArgs.toArray());
+        if (!before.isEmpty()) {
+            jdbcTemplate.update("UPDATE users SET " + assignments + " WHERE client_id IN " + in
+                    + " AND status IS DISTINCT FROM ?", args.toArray());
+        }
+        return before;
+    }
+
+    @Override
+    public List<ClientSnapshot> bulkDelete(Collection<String> clientIds) {
+        String in = placeholders(clientIds.size());
+        if (isPostgres()) {
+            return jdbcTemplate.query("DELETE FROM users WHERE client_id IN " + in
+                            + " RETURNING " + String.join(", ", SNAPSHOT_COLUMNS),
+                    (rs, rowNum) -> snapshot(rs, ""), clientIds.toArray());
+        }
+
+        List<ClientSnapshot> before = jdbcTemplate.query("SELECT " + String.join(", ", SNAPSHOT_COLUMNS)
+                        + " FROM users WHERE client_id IN " + in + " FOR UPDATE",
+                (rs, rowNum) -> snapshot(rs, ""), clientIds.toArray());
+        if (!before.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM users WHERE client_id IN " + in, clientIds.toArray());
+        }
+        return before;
+    }
+
+    private static String placeholders(int count) {
+        return "(" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+
+    private static Map<String, String> changedColumns(ClientPatch patch) {
+        Map<String, String> columns = new LinkedHashMap<>();
+        putIfPresent(columns, "email", patch.email());
+        putIfPresent(columns, "name", patch.name());
+        putIfPresent(columns, "mobile", patch.mobile());
+        putIfPresent(columns, "phone_number_id", patch.phoneNumberId());
+        putIfPresent(columns, "chat_prefix", patch.chatPrefix());
+        putIfPresent(columns, "status", patch.status());
+        return columns;
+    }
+
+    private static void putIfPresent(Map<String, String> columns, String column, String value) {
+        if (value != null) {
+            columns.put(column, value);
+        }
+    }
+
+    private static ClientSnapshot applied(ClientSnapshot before, ClientPatch patch, LocalDateTime updatedAt) {
+        return new ClientSnapshot(
+                before.clientId(),
+                patch.email() != null ? patch.email() : before.email(),
+                patch.name() != null ? patch.name() : before.name(),
+                patch.mobile() != null ? patch.mobile() : before.mobile(),
+                patch.phoneNumberId() != null ? patch.phoneNumberId() : before.phoneNumberId(),
+                patch.chatPrefix() != null ? patch.chatPrefix() : before.chatPrefix(),
+                before.role(),
+                patch.status() != null ? patch.status() : before.status(),
+                before.createdAt(),
+                updatedAt);
+    }
+
+    private static String prefixed(String table, String alias) {
+        return Arrays.stream(SNAPSHOT_COLUMNS)
+                .map(column -> table + "." + column + " AS " + alias + column)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static ClientSnapshot snapshot(ResultSet rs, String prefix) throws SQLException {
+        return new ClientSnapshot(
+                rs.getString(prefix + "client_id"),
+                rs.getString(prefix + "email"),
+                rs.getString(prefix + "name"),
+                rs.getString(prefix + "mobile"),
+                rs.getString(prefix + "phone_number_id"),
+                rs.getString(prefix + "chat_prefix"),
+                rs.getString(prefix + "role"),
+                rs.getString(prefix + "status"),
+                toLocalDateTime(rs.getTimestamp(prefix + "created_at")),
+                toLocalDateTime(rs.getTimestamp(prefix + "updated_at")));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,266 @@
+package com.clientpanel.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.clientpanel.dto.ClientAuditPage;
+import com.clientpanel.dto.ClientAuditRecord;
+import com.clientpanel.dto.FieldChange;
+import com.clientpanel.event.ClientChangeEvent;
+import com.clientpanel.event.ClientSnapshot;
+import com.clientpanel.model.ClientAuditEntry;
+import com.clientpanel.repository.ClientAuditRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Field-level history of client writes. Committed {@link ClientChangeEvent}s are diffed
+ * and queued in memory; a background writer inserts them in JDBC batches every flush
+ * interval, or sooner once a full batch is waiting, so writes never pay for an extra
+ * INSERT. A transaction's entries are queued together after it commits. When the queue is
+ * full the overflow policy applies: {@code block} makes the writing request wait for space,
+ * at most {@code offer-timeout} for the whole transaction (so a bulk action or import stalls
+ * once, not once per row), {@code drop} discards the entry at once. Dropped entries are
+ * counted and logged.
+ */
+@Slf4j
+@Component
+public class ClientAuditTrail {
+
+    public enum OverflowPolicy {
+        BLOCK, DROP
+    }
+
+    private static final String INSERT = "INSERT INTO client_audit (client_id, action, changed_by, changed_at, changes) "
+            + "VALUES (?, ?, ?, ?, ?)";
+    private static final String SYSTEM_ACTOR = "system";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final TypeReference<Map<String, FieldChange>> CHANGES_TYPE = new TypeReference<>() {
+    };
+
+    private static final List<Field> FIELDS = List.of(
+            new Field("email", ClientSnapshot::email),
+            new Field("name", ClientSnapshot::name),
+            new Field("mobile", ClientSnapshot::mobile),
+            new Field("phoneNumberId", ClientSnapshot::phoneNumberId),
+            new Field("chatPrefix", ClientSnapshot::chatPrefix),
+            new Field("role", ClientSnapshot::role),
+            new Field("status", ClientSnapshot::status));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+    private final ClientAuditRepository auditRepository;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<Pending> queue;
+    private final TransactionBuffer<Pending> committed =
+            new TransactionBuffer<>(TransactionPhase.AFTER_COMMIT, this::enqueue);
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflow;
+    private final Duration offerTimeout;
+    private final Counter written;
+    private final Counter dropped;
+    private final AtomicLong droppedSinceFlush = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public ClientAuditTrail(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            ClientAuditRepository auditRepository,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${clientpanel.audit.queue-capacity:10000}") int queueCapacity,
+                            @Value("${clientpanel.audit.batch-size:500}") int batchSize,
+                            @Value("${clientpanel.audit.flush-interval:PT1S}") Duration flushInterval,
+                            @Value("${clientpanel.audit.overflow:block}") OverflowPolicy overflow,
+                            @Value("${clientpanel.audit.offer-timeout:PT0.5S}") Duration offerTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        // The listener runs after the client's transaction committed; batches get a transaction of their own
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.auditRepository = auditRepository;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflow = overflow;
+        this.offerTimeout = offerTimeout;
+        this.written = Counter.builder("clientpanel.audit.entries").tag("outcome", "written").register(meterRegistry);
+        this.dropped = Counter.builder("clientpanel.audit.entries").tag("outcome", "dropped").register(meterRegistry);
+        meterRegistry.gauge("clientpanel.audit.queue", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("client-audit-writer").daemon().start(this::runWriter);
+    }
+
+    /** Stops the writer after a final flush, before the data source shuts down. */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @EventListener
+    public void onClientChange(ClientChangeEvent event) {
+        Map<String, FieldChange> changes = diff(event.before(), event.after());
+        if (!changes.isEmpty()) {
+            committed.add(new Pending(event.clientId(), event.type().name(), currentActor(), LocalDateTime.now(),
+                    changes));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ClientAuditPage history(String clientId, int page, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        Slice<ClientAuditEntry> slice = auditRepository.findByClientIdOrderByIdDesc(clientId,
+                PageRequest.of(Math.max(page, 0), pageSize));
+        List<ClientAuditRecord> entries = slice.getContent().stream()
+                .map(entry -> new ClientAuditRecord(entry.getId(), entry.getAction(), entry.getChangedBy(),
+                        entry.getChangedAt(), fromJson(entry.getChanges())))
+                .toList();
+        return new ClientAuditPage(entries, slice.getNumber(), pageSize, slice.hasNext());
+    }
+
+    private void enqueue(List<Pending> entries) {
+        long deadline = 0;
+        for (Pending entry : entries) {
+            boolean accepted = queue.offer(entry);
+            if (!accepted && overflow == OverflowPolicy.BLOCK && !Thread.currentThread().isInterrupted()) {
+                // One wait budget for all of the entries; once it is spent the rest are dropped
+                if (deadline == 0) {
+                    deadline = System.nanoTime() + offerTimeout.toNanos();
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining > 0) {
+                    LockSupport.unpark(writer);
+                    try {
+                        accepted = queue.offer(entry, remaining, TimeUnit.NANOSECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+            if (!accepted) {
+                dropped.increment();
+                droppedSinceFlush.incrementAndGet();
+            }
+        }
+        if (queue.size() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void runWriter() {
+        while (running) {
+            LockSupport.parkNanos(flushIntervalNanos);
+            flush();
+        }
+        flush();
+    }
+
+    private void flush() {
+        long lost = droppedSinceFlush.getAndSet(0);
+        if (lost > 0) {
+            log.warn("Audit queue full, dropped {} entries", lost);
+        }
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        try {
+            List<Object[]> rows = new ArrayList<>(batch.size());
+            for (Pending entry : batch) {
+                rows.add(new Object[] {entry.clientId(), entry.action(), entry.changedBy(),
+                        Timestamp.valueOf(entry.changedAt()), toJson(entry.changes())});
+            }
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT, rows));
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            // Keep the writer alive; the database may be back by the next batch
+            dropped.increment(batch.size());
+            log.error("Audit batch write failed, dropped {} entries", batch.size(), e);
+        }
+    }
+
+    private static Map<String, FieldChange> diff(ClientSnapshot before, ClientSnapshot after) {
+        Map<String, FieldChange> changes = new LinkedHashMap<>();
+        for (Field field : FIELDS) {
+            String from = before != null ? field.value().apply(before) : null;
+            String to = after != null ? field.value().apply(after) : null;
+            if (!Objects.equals(from, to)) {
+                changes.put(field.name(), new FieldChange(from, to));
+            }
+        }
+        return changes;
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : SYSTEM_ACTOR;
+    }
+
+    private String toJson(Map<String, FieldChange> changes) {
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unserializable audit changes", e);
+        }
+    }
+
+    private Map<String, FieldChange> fromJson(String changes) {
+        try {
+            return objectMapper.readValue(changes, CHANGES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt audit changes", e);
+        }
+    }
+
+    private record Field(String name, Function<ClientSnapshot, String> value) {
+    }
+
+    private record Pending(String clientId, String action, String changedBy, LocalDateTime changedAt,
+                           Map<String, FieldChange> changes) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.clientpanel.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.clientpanel.model.User;
+import com.clientpanel.repository.FieldConflicts;
+import com.clientpanel.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Detects unique-field conflicts for client add/edit. Pre-checks run as a single
+ * aggregate query; a unique violation raised by the insert/update itself is mapped back
+ * to the same field names, which lets the pre-check be turned off under heavy write load.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClientConflictService {
+
+    // Never a valid client id (minimum length is 3), so it excludes nothing / matches nothing
+    private static final String NO_CLIENT = "";
+
+    // Column name fragments as they appear in constraint names and driver messages
+    private static final Map<String, String> FIELD_BY_COLUMN = new LinkedHashMap<>();
+
+    static {
+        FIELD_BY_COLUMN.put("phone_number_id", "phoneNumberId");
+        FIELD_BY_COLUMN.put("client_id", "clientId");
+        FIELD_BY_COLUMN.put("pkey", "clientId");
+        FIELD_BY_COLUMN.put("mobile", "mobile");
+        FIELD_BY_COLUMN.put("email", "email");
+    }
+
+    private final UserRepository userRepository;
+
+    @Value("${clientpanel.validation.precheck-uniqueness:true}")
+    private boolean precheck;
+
+    /**
+     * Conflicting fields for a client about to be created, including its client id.
+     */
+    @Transactional(readOnly = true)
+    public List<String> findConflicts(User candidate) {
+        return query(candidate, candidate.getClientId(), NO_CLIENT);
+    }
+
+    /**
+     * Conflicting fields for an edit of {@code clientId}, ignoring the client's own row.
+     */
+    @Transactional(readOnly = true)
+    public List<String> findConflictsExcluding(User candidate, String clientId) {
+        return query(candidate, NO_CLIENT, clientId);
+    }
+
+    /**
+     * Maps a unique-constraint violation from the database back to field names. Returns
+     * an empty list if the violation is not one of the client's unique fields.
+     */
+    public List<String> conflictsFrom(DataIntegrityViolationException e) {
+        String region = describe(e);
+        List<String> fields = new ArrayList<>();
+        FIELD_BY_COLUMN.forEach((column, field) -> {
+            if (region.contains(column) && !fields.contains(field)) {
+                fields.add(field);
+            }
+        });
+        return fields;
+    }
+
+    private List<String> query(User candidate, String clientId, String excludeClientId) {
+        List<String> fields = new ArrayList<>();
+        if (!precheck) {
+            return fields;
+        }
+        FieldConflicts conflicts = userRepository.findFieldConflicts(clientId, candidate.getEmail(),
+                candidate.getMobile(), candidate.getPhoneNumberId(), excludeClientId);
+        if (conflicts.getClientIdConflicts() > 0) {
+            fields.add("clientId");
+        }
+        if (conflicts.getEmailConflicts() > 0) {
+            fields.add("email");
+        }
+        if (conflicts.getMobileConflicts() > 0) {
+            fields.add("mobile");
+        }
+        if (conflicts.getPhoneNumberIdConflicts() > 0) {
+            fields.add("phoneNumberId");
+        }
+        return fields;
+    }
+
+    /**
+     * The constraint name plus the key part of the driver message, lower-cased and cut
+     * before the offending values so a value such as "mobile@example.com" cannot mislead.
+     */
+    private static String describe(DataIntegrityViolationException e) {
+        StringBuilder region = new StringBuilder();
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                region.append(violation.getConstraintName()).append(' ');
+            }
+            cause = cause.getCause();
+        }
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        int end = message.indexOf(")=(");
+        if (end < 0) {
+            end = message.indexOf(" values ");
+        }
+        region.append(end < 0 ? message : message.substring(0, end));
+        return region.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,94 @@
+package com.clientpanel.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.clientpanel.event.ClientSnapshot;
+import com.clientpanel.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes every client to an output stream as CSV or NDJSON straight from a database
+ * cursor, so heap use is independent of table size. Password hashes are never exported.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClientExportService {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private static final Object[] CSV_HEADER = {
+            "clientId", "email", "name", "mobile", "phoneNumberId", "chatPrefix", "role", "status",
+            "createdAt", "updatedAt"
+    };
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Returns the number of rows written. The caller owns {@code output} and closes it.
+     */
+    @Transactional(readOnly = true)
+    public long export(Format format, OutputStream output) throws IOException {
+        try (Stream<ClientSnapshot> rows = userRepository.streamSnapshots()) {
+            return format == Format.CSV ? writeCsv(rows, output) : writeNdjson(rows, output);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static long writeCsv(Stream<ClientSnapshot> rows, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+        Csv.writeRecord(writer, CSV_HEADER);
+        AtomicLong count = new AtomicLong();
+        rows.forEach(row -> {
+            try {
+                Csv.writeRecord(writer, row.clientId(), row.email(), row.name(), row.mobile(), row.phoneNumberId(),
+                        row.chatPrefix(), row.role(), row.status(), row.createdAt(), row.updatedAt());
+                count.incrementAndGet();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        return count.get();
+    }
+
+    private long writeNdjson(Stream<ClientSnapshot> rows, OutputStream output) throws IOException {
+        AtomicLong count = new AtomicLong();
+        try (SequenceWriter writer = objectMapper.writerFor(ClientSnapshot.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(output)) {
+            rows.forEach(row -> {
+                try {
+                    writer.write(row);
+                    count.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        if (count.get() > 0) {
+            output.write('\n');
+        }
+        output.flush();
+        return count.get();
+    }
+}
@@ -0,0 +1,48 @@
+package com.clientpanel.service;
+
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+
+import com.clientpanel.model.User;
+
+/**
+ * Field checks for the client edit form, which skips bean validation because the password
+ * is optional there. Patterns are compiled once instead of per call as {@code String.matches} does.
+ */
+@Component
+public class ClientFieldValidator {
+
+    static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+    static final Pattern MOBILE = Pattern.compile("^[0-9]{10,15}$");
+    static final Pattern PHONE_NUMBER_ID = Pattern.compile("^[0-9]{15}$");
+
+    public void validateForEdit(User user, Errors errors) {
+        if (isEmpty(user.getEmail())) {
+            errors.rejectValue("email", "error.email", "Email is required");
+        } else if (!EMAIL.matcher(user.getEmail()).matches()) {
+            errors.rejectValue("email", "error.email", "Email should be valid");
+        }
+
+        if (isEmpty(user.getName())) {
+            errors.rejectValue("name", "error.name", "Name is required");
+        }
+
+        if (isEmpty(user.getMobile())) {
+            errors.rejectValue("mobile", "error.mobile", "Mobile number is required");
+        } else if (!MOBILE.matcher(user.getMobile()).matches()) {
+            errors.rejectValue("mobile", "error.mobile", "Mobile number must be numeric between 10 and 15 digits");
+        }
+
+        if (isEmpty(user.getPhoneNumberId())) {
+            errors.rejectValue("phoneNumberId", "error.phoneNumberId", "Phone number ID is required");
+        } else if (!PHONE_NUMBER_ID.matcher(user.getPhoneNumberId()).matches()) {
+            errors.rejectValue("phoneNumberId", "error.phoneNumberId", "Phone number ID must be exactly 15 numeric digits");
+        }
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+}
@@ -0,0 +1,251 @@
+package com.clientpanel.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.clientpanel.dto.ImportReport;
+import com.clientpanel.dto.ImportRow;
+import com.clientpanel.dto.ImportRowError;
+import com.clientpanel.dto.ImportStatus;
+import com.clientpanel.event.ClientChangeEvent;
+import com.clientpanel.event.ClientSnapshot;
+import com.clientpanel.model.User;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Streams a CSV or JSON upload row by row, validates each row against the {@link User}
+ * constraints, hashes passwords on {@link PasswordHashingPool} and inserts valid rows with
+ * JDBC batches, one transaction per chunk. Duplicates are skipped by the database
+ * ({@code ON CONFLICT DO NOTHING}) and reported per row.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClientImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final List<String> CSV_COLUMNS =
+            List.of("clientid", "email", "name", "mobile", "phonenumberid", "pass", "chatprefix");
+
+    private static final String INSERT_SQL = "INSERT INTO users (client_id, email, name, mobile, phone_number_id, "
+            + "pass, chat_prefix, role, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingPool hashingPool;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Progress> activeImports = new ConcurrentHashMap<>();
+
+    public ImportReport importCsv(InputStream input, String source) throws IOException {
+        Progress progress = start(source);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            Csv.RecordReader records = new Csv.RecordReader(reader);
+            List<String> header = records.next();
+            if (header == null) {
+                return progress.finish();
+            }
+            int[] columns = resolveColumns(header);
+            List<String> record;
+            while ((record = records.next()) != null) {
+                progress.accept(toRow(record, columns));
+            }
+            return progress.finish();
+        } finally {
+            activeImports.remove(progress.id);
+        }
+    }
+
+    /**
+     * Accepts either a JSON array of objects or newline-delimited JSON objects.
+     */
+    public ImportReport importJson(InputStream input, String source) throws IOException {
+        Progress progress = start(source);
+        try (MappingIterator<ImportRow> rows = objectMapper.readerFor(ImportRow.class).readValues(input)) {
+            while (rows.hasNextValue()) {
+                progress.accept(rows.nextValue());
+            }
+            return progress.finish();
+        } finally {
+            activeImports.remove(progress.id);
+        }
+    }
+
+    public Collection<ImportStatus> getActiveImports() {
+        return activeImports.values().stream().map(Progress::status).toList();
+    }
+
+    private Progress start(String source) {
+        Progress progress = new Progress(UUID.randomUUID().toString(), source);
+        activeImports.put(progress.id, progress);
+        return progress;
+    }
+
+    private static int[] resolveColumns(List<String> header) {
+        int[] columns = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = -1;
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT);
+            int column = CSV_COLUMNS.indexOf(name);
+            if (column >= 0) {
+                columns[column] = i;
+            }
+        }
+        return columns;
+    }
+
+    private static ImportRow toRow(List<String> record, int[] columns) {
+        String[] values = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            int index = columns[i];
+            values[i] = index >= 0 && index < record.size() ? record.get(index).trim() : null;
+        }
+        return new ImportRow(values[0], values[1], values[2], values[3], values[4], values[5], values[6]);
+    }
+
+    private record PendingRow(long row, User user) {
+    }
+
+    /**
+     * Per-import state: the current chunk, counters that status polling reads, and the
+     * capped error list.
+     */
+    private final class Progress {
+
+        private final String id;
+        private final String source;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private final List<PendingRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        Progress(String id, String source) {
+            this.id = id;
+            this.source = source;
+        }
+
+        void accept(ImportRow row) {
+            long rowNumber = processed.incrementAndGet();
+            User user = User.builder()
+                    .clientId(row.clientId())
+                    .email(User.normalizeEmail(row.email()))
+                    .name(row.name())
+                    .mobile(row.mobile())
+                    .phoneNumberId(row.phoneNumberId())
+                    .pass(row.pass())
+                    .chatPrefix(row.chatPrefix())
+                    .role("ROLE_CLIENT")
+                    .status("Active")
+                    .build();
+
+            Set<ConstraintViolation<User>> violations = validator.validate(user);
+            if (!violations.isEmpty()) {
+                ConstraintViolation<User> first = violations.iterator().next();
+                fail(rowNumber, row.clientId(), first.getPropertyPath() + ": " + first.getMessage());
+                return;
+            }
+            if (row.pass() == null || row.pass().isBlank()) {
+                fail(rowNumber, row.clientId(), "pass: Password is required");
+                return;
+            }
+
+            chunk.add(new PendingRow(rowNumber, user));
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        ImportReport finish() {
+            flush();
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            return new ImportReport(source, processed.get(), inserted.get(), failed.get(), List.copyOf(errors),
+                    elapsedMillis);
+        }
+
+        ImportStatus status() {
+            return new ImportStatus(id, source, processed.get(), inserted.get(), failed.get(), startedAt);
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<CompletableFuture<String>> hashes = new ArrayList<>(chunk.size());
+            for (PendingRow pending : chunk) {
+                String rawPassword = pending.user().getPass();
+                hashes.add(hashingPool.submit(() -> passwordEncoder.encode(rawPassword)));
+            }
+            LocalDateTime now = LocalDateTime.now();
+            Timestamp timestamp = Timestamp.valueOf(now);
+            List<Object[]> batch = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                User user = chunk.get(i).user();
+                user.setPass(hashes.get(i).join());
+                user.setCreatedAt(now);
+                user.setUpdatedAt(now);
+                batch.add(new Object[] {
+                        user.getClientId(), user.getEmail(), user.getName(), user.getMobile(),
+                        user.getPhoneNumberId(), user.getPass(), user.getChatPrefix(), user.getRole(),
+                        user.getStatus(), timestamp, timestamp
+                });
+            }
+
+            transactionTemplate.executeWithoutResult(tx -> {
+                int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                for (int i = 0; i < counts.length; i++) {
+                    PendingRow pending = chunk.get(i);
+                    if (counts[i] == 0) {
+                        fail(pending.row(), pending.user().getClientId(),
+                                "Client ID, email, mobile or phone number ID is already in use");
+                    } else {
+                        inserted.incrementAndGet();
+                        eventPublisher.publishEvent(ClientChangeEvent.created(ClientSnapshot.of(pending.user())));
+                    }
+                }
+            });
+            chunk.clear();
+        }
+
+        private void fail(long row, String clientId, String message) {
+            failed.incrementAndGet();
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportRowError(row, clientId, message));
+            }
+        }
+    }
+}
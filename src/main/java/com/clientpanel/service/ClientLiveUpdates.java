@@ -0,0 +1,260 @@
+package com.clientpanel.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.clientpanel.dto.ClientDelta;
+import com.clientpanel.dto.ClientListRow;
+import com.clientpanel.dto.StatusCounts;
+import com.clientpanel.event.ClientChangeEvent;
+import com.clientpanel.event.RemoteClientChangeEvent;
+import com.clientpanel.event.RemoteClientResyncEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes committed client changes to open dashboard and list pages over Server-Sent Events.
+ * Changes are coalesced per client and sent once per push interval as a single
+ * {@code delta} event carrying the in-memory status counts, so connected pages cost no
+ * database queries. Each subscriber has a small bounded buffer drained by its own virtual
+ * thread; a slow subscriber that fills it gets a {@code resync} event instead of the missed
+ * deltas, as does one that reconnects with a stale {@code Last-Event-ID}.
+ */
+@Slf4j
+@Component
+public class ClientLiveUpdates {
+
+    private static final String DELTA = "delta";
+    private static final String RESYNC = "resync";
+
+    private final ClientStatusStatistics statusStatistics;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxRowsPerPush;
+    private final long timeoutMillis;
+    private final Counter resyncs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Object lock = new Object();
+    private Map<String, Change> pending = new LinkedHashMap<>();
+    private boolean overflowed;
+
+    public ClientLiveUpdates(ClientStatusStatistics statusStatistics,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${clientpanel.live.buffer-size:16}") int bufferSize,
+                             @Value("${clientpanel.live.max-rows-per-push:200}") int maxRowsPerPush,
+                             @Value("${clientpanel.live.timeout:PT30M}") Duration timeout) {
+        this.statusStatistics = statusStatistics;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxRowsPerPush = maxRowsPerPush;
+        this.timeoutMillis = timeout.toMillis();
+        this.resyncs = Counter.builder("clientpanel.live.resyncs").register(meterRegistry);
+        meterRegistry.gauge("clientpanel.live.subscribers", subscribers, Set::size);
+    }
+
+    /**
+     * Registers a page. {@code lastEventId} is the browser's reconnect header; if deltas were
+     * pushed since, the page is told to resync.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        if (lastEventId != null && !lastEventId.equals(Long.toString(sequence.get()))) {
+            subscriber.offer(event(RESYNC, sequence.get(), countsOnly()));
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onClientChange(ClientChangeEvent event) {
+        if (subscribers.isEmpty()) {
+            // Nobody to push to, but pages reconnecting later must still see they missed something
+            sequence.incrementAndGet();
+            return;
+        }
+        synchronized (lock) {
+            if (overflowed) {
+                return;
+            }
+            pending.merge(event.clientId(), Change.of(event), Change::then);
+            if (pending.size() > maxRowsPerPush) {
+                // Too many rows to be worth pushing; pages get a resync and offer a reload instead
+                overflowed = true;
+                pending = new LinkedHashMap<>();
+            }
+        }
+    }
+
+    @EventListener
+    public void onRemoteChanges(RemoteClientChangeEvent remote) {
+        remote.changes().forEach(this::onClientChange);
+    }
+
+    @EventListener(RemoteClientResyncEvent.class)
+    public void onRemoteResync() {
+        synchronized (lock) {
+            overflowed = true;
+            pending = new LinkedHashMap<>();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${clientpanel.live.push-interval:PT1S}")
+    public void push() {
+        Map<String, Change> changes;
+        boolean resync;
+        synchronized (lock) {
+            if (pending.isEmpty() && !overflowed) {
+                return;
+            }
+            changes = pending;
+            resync = overflowed;
+            pending = new LinkedHashMap<>();
+            overflowed = false;
+        }
+        long id = sequence.incrementAndGet();
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> event = resync ? event(RESYNC, id, countsOnly()) : event(DELTA, id, delta(changes));
+        subscribers.forEach(subscriber -> subscriber.offer(event));
+    }
+
+    /** Keeps idle connections open through proxies and finds browsers that went away. */
+    @Scheduled(fixedDelayString = "${clientpanel.live.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        Set<DataWithMediaType> comment = SseEmitter.event().comment("heartbeat").build();
+        subscribers.forEach(subscriber -> subscriber.offer(comment));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.emitter.complete();
+            } catch (IllegalStateException e) {
+                // Response already gone
+            }
+        }
+        senders.shutdownNow();
+    }
+
+    private ClientDelta delta(Map<String, Change> changes) {
+        List<ClientListRow> created = new ArrayList<>();
+        List<ClientListRow> updated = new ArrayList<>();
+        List<String> deleted = new ArrayList<>();
+        changes.forEach((clientId, change) -> {
+            switch (change.type()) {
+                case CREATED -> created.add(change.row());
+                case UPDATED -> updated.add(change.row());
+                case DELETED -> deleted.add(clientId);
+            }
+        });
+        return new ClientDelta(statusStatistics.snapshot(), created, updated, deleted);
+    }
+
+    private ClientDelta countsOnly() {
+        return new ClientDelta(statusStatistics.snapshot(), List.of(), List.of(), List.of());
+    }
+
+    // Serialized once and shared by every subscriber
+    private Set<DataWithMediaType> event(String name, long id, ClientDelta delta) {
+        try {
+            return SseEmitter.event().name(name).id(Long.toString(id))
+                    .data(objectMapper.writeValueAsString(delta), MediaType.APPLICATION_JSON).build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unserializable client delta", e);
+        }
+    }
+
+    /** Net effect of one client's changes within a push interval. */
+    private record Change(ClientChangeEvent.Type type, ClientListRow row) {
+
+        static Change of(ClientChangeEvent event) {
+            return new Change(event.type(), event.after() != null ? ClientListRow.of(event.after()) : null);
+        }
+
+        // null (created, then deleted) removes the entry from the pending map
+        Change then(Change next) {
+            if (next.type() == ClientChangeEvent.Type.DELETED) {
+                return type == ClientChangeEvent.Type.CREATED ? null : next;
+            }
+            return type == ClientChangeEvent.Type.CREATED ? new Change(type, next.row()) : next;
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> event) {
+            if (!buffer.offer(event)) {
+                buffer.clear();
+                resyncs.increment();
+                buffer.offer(ClientLiveUpdates.this.event(RESYNC, sequence.get(), countsOnly()));
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while ((event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Browser went away or the emitter already completed
+                subscribers.remove(this);
+                buffer.clear();
+                log.debug("Dropped live subscriber: {}", e.getMessage());
+            } finally {
+                draining.set(false);
+            }
+            if (!buffer.isEmpty() && subscribers.contains(this) && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+    }
+}
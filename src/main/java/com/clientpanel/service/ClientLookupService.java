@@ -0,0 +1,100 @@
+package com.clientpanel.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.clientpanel.dto.ClientCursor;
+import com.clientpanel.dto.ClientSlice;
+import com.clientpanel.event.ClientSnapshot;
+import com.clientpanel.repository.UserRepository;
+
+/**
+ * Read-only client lookups for integrations. Results are {@link ClientSnapshot} projections,
+ * so nothing is loaded into the persistence context and the password hash is never selected.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ClientLookupService {
+
+    public enum Key {
+        CLIENT_ID, PHONE_NUMBER_ID
+    }
+
+    /** Clients found, in request order, and the requested ids that matched nothing. */
+    public record Batch(List<ClientSnapshot> found, List<String> missing) {
+    }
+
+    private final UserRepository userRepository;
+    private final int maxBatchSize;
+    private final int maxPageSize;
+
+    public ClientLookupService(UserRepository userRepository,
+                               @Value("${clientpanel.api.max-batch-size:100}") int maxBatchSize,
+                               @Value("${clientpanel.api.max-page-size:500}") int maxPageSize) {
+        this.userRepository = userRepository;
+        this.maxBatchSize = maxBatchSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /** Resolves up to {@code max-batch-size} distinct ids in a single query. */
+    public Batch findAll(Key key, Collection<String> ids) {
+        Set<String> distinct = new LinkedHashSet<>(ids);
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("No ids given");
+        }
+        if (distinct.size() > maxBatchSize) {
+            throw new IllegalArgumentException("At most " + maxBatchSize + " ids per request");
+        }
+        List<ClientSnapshot> rows = key == Key.CLIENT_ID
+                ? userRepository.findSnapshotsByClientIds(distinct)
+                : userRepository.findSnapshotsByPhoneNumberIds(distinct);
+        Function<ClientSnapshot, String> keyOf = key == Key.CLIENT_ID
+                ? ClientSnapshot::clientId
+                : ClientSnapshot::phoneNumberId;
+        Map<String, ClientSnapshot> byKey = new HashMap<>();
+        rows.forEach(row -> byKey.put(keyOf.apply(row), row));
+
+        List<ClientSnapshot> found = new ArrayList<>(rows.size());
+        List<String> missing = new ArrayList<>();
+        for (String id : distinct) {
+            ClientSnapshot row = byKey.get(id);
+            if (row != null) {
+                found.add(row);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new Batch(found, missing);
+    }
+
+    /** Forward-only keyset page ordered by (createdAt, clientId), as in the client list. */
+    public ClientSlice<ClientSnapshot> page(String after, int size) {
+        int pageSize = Math.clamp(size, 1, maxPageSize);
+        Limit limit = Limit.of(pageSize + 1);
+        List<ClientSnapshot> rows;
+        if (after != null) {
+            ClientCursor cursor = ClientCursor.decode(after);
+            rows = new ArrayList<>(userRepository.findSnapshotPageAfter(cursor.createdAt(), cursor.clientId(), limit));
+        } else {
+            rows = new ArrayList<>(userRepository.findFirstSnapshotPage(limit));
+        }
+        String next = null;
+        if (rows.size() > pageSize) {
+            rows.remove(pageSize);
+            ClientSnapshot last = rows.get(pageSize - 1);
+            next = new ClientCursor(last.createdAt(), last.clientId()).encode();
+        }
+        return new ClientSlice<>(rows, next, null);
+    }
+}
@@ -0,0 +1,160 @@
+package com.clientpanel.service;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.clientpanel.dto.ClientRoute;
+import com.clientpanel.event.ClientChangeEvent;
+import com.clientpanel.event.ClientSnapshot;
+import com.clientpanel.event.RemoteClientChangeEvent;
+import com.clientpanel.event.RemoteClientResyncEvent;
+import com.clientpanel.repository.RoutingRow;
+import com.clientpanel.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Read-optimized phoneNumberId to client index for message routing. Phone number IDs are
+ * always 15 digits, so they are stored as primitive longs in an open-addressing table.
+ * Loaded at startup and kept current by {@link ClientRoutingListener}, plus committed
+ * {@link ClientChangeEvent}s for writes that bypass JPA (such as the JDBC bulk import) and
+ * other nodes' changes. Reloaded when changes from other nodes may have been missed.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientRoutingIndex {
+
+    private static final int PHONE_NUMBER_ID_LENGTH = 15;
+
+    private final UserRepository userRepository;
+
+    private final LongOpenHashMap<ClientRoute> routes = new LongOpenHashMap<>(1024);
+    // Write-side bookkeeping so a changed phoneNumberId can drop its old key
+    private final Map<String, Long> keyByClientId = new ConcurrentHashMap<>();
+
+    private final Object writeLock = new Object();
+    private final Object loadLock = new Object();
+    private Set<String> touchedDuringLoad;
+
+    public Optional<ClientRoute> lookup(String phoneNumberId) {
+        long key = parseKey(phoneNumberId);
+        return key < 0 ? Optional.empty() : Optional.ofNullable(routes.get(key));
+    }
+
+    public int size() {
+        return routes.size();
+    }
+
+    // Read-write so the rows come from the primary, never a lagging replica
+    @EventListener({ApplicationReadyEvent.class, RemoteClientResyncEvent.class})
+    @Transactional
+    public void load() {
+        synchronized (loadLock) {
+            synchronized (writeLock) {
+                touchedDuringLoad = new HashSet<>();
+            }
+            Set<String> loaded = new HashSet<>();
+            try (Stream<RoutingRow> rows = userRepository.streamRoutingRows()) {
+                rows.forEach(row -> {
+                    synchronized (writeLock) {
+                        loaded.add(row.getClientId());
+                        // A live write that landed while we were streaming is newer than this row
+                        if (!touchedDuringLoad.contains(row.getClientId())) {
+                            apply(row.getClientId(), row.getPhoneNumberId(),
+                                    new ClientRoute(row.getClientId(), row.getStatus(), row.getChatPrefix()));
+                        }
+                    }
+                });
+                synchronized (writeLock) {
+                    // On a reload, clients deleted since the last load are gone from the database
+                    for (String clientId : Set.copyOf(keyByClientId.keySet())) {
+                        if (!loaded.contains(clientId) && !touchedDuringLoad.contains(clientId)) {
+                            routes.remove(keyByClientId.remove(clientId));
+                        }
+                    }
+                }
+            } finally {
+                synchronized (writeLock) {
+                    touchedDuringLoad = null;
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onClientChange(ClientChangeEvent event) {
+        ClientSnapshot after = event.after();
+        if (after == null) {
+            remove(event.clientId());
+        } else {
+            put(after.clientId(), after.phoneNumberId(), after.status(), after.chatPrefix());
+        }
+    }
+
+    @EventListener
+    public void onRemoteChanges(RemoteClientChangeEvent remote) {
+        remote.changes().forEach(this::onClientChange);
+    }
+
+    void put(String clientId, String phoneNumberId, String status, String chatPrefix) {
+        synchronized (writeLock) {
+            markTouched(clientId);
+            apply(clientId, phoneNumberId, new ClientRoute(clientId, status, chatPrefix));
+        }
+    }
+
+    void remove(String clientId) {
+        synchronized (writeLock) {
+            markTouched(clientId);
+            Long key = keyByClientId.remove(clientId);
+            if (key != null) {
+                routes.remove(key);
+            }
+        }
+    }
+
+    private void apply(String clientId, String phoneNumberId, ClientRoute route) {
+        long key = parseKey(phoneNumberId);
+        Long previousKey = key < 0 ? keyByClientId.remove(clientId) : keyByClientId.put(clientId, key);
+        if (previousKey != null && previousKey != key) {
+            routes.remove(previousKey);
+        }
+        if (key >= 0) {
+            routes.put(key, route);
+        }
+    }
+
+    private void markTouched(String clientId) {
+        if (touchedDuringLoad != null) {
+            touchedDuringLoad.add(clientId);
+        }
+    }
+
+    /**
+     * Parses a 15-digit phone number ID without allocating; returns -1 if it is malformed.
+     */
+    static long parseKey(String phoneNumberId) {
+        if (phoneNumberId == null || phoneNumberId.length() != PHONE_NUMBER_ID_LENGTH) {
+            return -1;
+        }
+        long key = 0;
+        for (int i = 0; i < PHONE_NUMBER_ID_LENGTH; i++) {
+            int digit = phoneNumberId.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            key = key * 10 + digit;
+        }
+        return key;
+    }
+}
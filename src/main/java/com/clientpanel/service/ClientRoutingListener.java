@@ -0,0 +1,54 @@
+package com.clientpanel.service;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.clientpanel.model.User;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JPA lifecycle hooks that keep {@link ClientRoutingIndex} in step with {@link User} writes.
+ * Changes are applied only once the surrounding transaction commits. The index is resolved
+ * lazily because Hibernate creates this listener while the EntityManagerFactory is being built.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientRoutingListener {
+
+    private final ObjectProvider<ClientRoutingIndex> routingIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(User user) {
+        String clientId = user.getClientId();
+        String phoneNumberId = user.getPhoneNumberId();
+        String status = user.getStatus();
+        String chatPrefix = user.getChatPrefix();
+        afterCommit(() -> routingIndex.getObject().put(clientId, phoneNumberId, status, chatPrefix));
+    }
+
+    @PostRemove
+    public void onRemove(User user) {
+        String clientId = user.getClientId();
+        afterCommit(() -> routingIndex.getObject().remove(clientId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,121 @@
+package com.clientpanel.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.clientpanel.dto.StatusCounts;
+import com.clientpanel.event.ClientChangeEvent;
+import com.clientpanel.event.RemoteClientChangeEvent;
+import com.clientpanel.event.RemoteClientResyncEvent;
+import com.clientpanel.repository.StatusCount;
+import com.clientpanel.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * In-memory client counts per status. Loaded with a single GROUP BY query, kept current
+ * from committed {@link ClientChangeEvent}s (this node's and other nodes') and periodically
+ * reconciled with the database.
+ * Reads never touch the database once the counts are loaded.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientStatusStatistics {
+
+    private static final String ACTIVE = "Active";
+    private static final String INACTIVE = "Inactive";
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Object lock = new Object();
+    private volatile Map<String, Long> counts;
+    private long revision;
+
+    public StatusCounts snapshot() {
+        Map<String, Long> current = counts;
+        if (current == null) {
+            current = loadIfAbsent();
+        }
+        long total = 0;
+        for (long count : current.values()) {
+            total += count;
+        }
+        return new StatusCounts(current.getOrDefault(ACTIVE, 0L), current.getOrDefault(INACTIVE, 0L), total);
+    }
+
+    @TransactionalEventListener
+    public void onClientChange(ClientChangeEvent event) {
+        String before = event.before() != null ? event.before().status() : null;
+        String after = event.after() != null ? event.after().status() : null;
+        if (event.type() == ClientChangeEvent.Type.UPDATED && Objects.equals(before, after)) {
+            return;
+        }
+        synchronized (lock) {
+            revision++;
+            if (counts == null) {
+                return;
+            }
+            Map<String, Long> updated = new HashMap<>(counts);
+            if (event.before() != null) {
+                updated.merge(String.valueOf(before), -1L, Long::sum);
+            }
+            if (event.after() != null) {
+                updated.merge(String.valueOf(after), 1L, Long::sum);
+            }
+            counts = Map.copyOf(updated);
+        }
+    }
+
+    @EventListener
+    public void onRemoteChanges(RemoteClientChangeEvent remote) {
+        remote.changes().forEach(this::onClientChange);
+    }
+
+    /**
+     * Replaces the in-memory counts with fresh database totals. If a change was applied
+     * while the query ran, the result is discarded and the next run tries again.
+     */
+    @Scheduled(fixedDelayString = "${clientpanel.stats.reconcile-interval:PT5M}",
+            initialDelayString = "${clientpanel.stats.reconcile-interval:PT5M}")
+    @EventListener(RemoteClientResyncEvent.class)
+    public void reconcile() {
+        long startRevision;
+        synchronized (lock) {
+            startRevision = revision;
+        }
+        Map<String, Long> fresh = loadFromDatabase();
+        synchronized (lock) {
+            if (revision == startRevision) {
+                counts = fresh;
+            }
+        }
+    }
+
+    private Map<String, Long> loadIfAbsent() {
+        synchronized (lock) {
+            if (counts == null) {
+                counts = loadFromDatabase();
+            }
+            return counts;
+        }
+    }
+
+    // In a read-write transaction, so the counts come from the primary rather than a lagging replica
+    private Map<String, Long> loadFromDatabase() {
+        List<StatusCount> rows = transactionTemplate.execute(status -> userRepository.countGroupedByStatus());
+        Map<String, Long> fresh = new HashMap<>();
+        for (StatusCount row : rows) {
+            fresh.put(String.valueOf(row.getStatus()), row.getTotal());
+        }
+        return Map.copyOf(fresh);
+    }
+}
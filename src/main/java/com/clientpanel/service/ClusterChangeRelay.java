@@ -0,0 +1,233 @@
+package com.clientpanel.service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+
+import com.clientpanel.event.ClientChangeEvent;
+import com.clientpanel.event.RemoteClientChangeEvent;
+import com.clientpanel.event.RemoteClientResyncEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shares client changes between nodes with PostgreSQL LISTEN/NOTIFY, so each node's caches
+ * (second-level cache, login cache, routing index, status counts, live updates) see writes
+ * made elsewhere. Active in multi-node mode ({@code clientpanel.session.store=jdbc}).
+ * <p>
+ * A transaction's changes are sent with {@code pg_notify} just before it commits, on its own
+ * connection: PostgreSQL delivers them only if it commits, and after it has. Payloads are
+ * packed up to the 8000-byte notification limit. A listener thread on a dedicated connection
+ * republishes other nodes' changes as {@link RemoteClientChangeEvent}. Whenever changes may
+ * have been missed (after a reconnect, or a change too large to send) a
+ * {@link RemoteClientResyncEvent} tells the caches to start over.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "clientpanel.session.store", havingValue = "jdbc")
+public class ClusterChangeRelay {
+
+    private static final String CHANNEL = "client_changes";
+    private static final String NOTIFY = "SELECT pg_notify('" + CHANNEL + "', payload) FROM unnest(?) AS payload";
+    // PostgreSQL rejects payloads of 8000 bytes or more; leave room for the envelope
+    private static final int MAX_CHANGES_BYTES = 7500;
+    private static final int POLL_MILLIS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataSourceProperties dataSourceProperties;
+    private final long reconnectDelayMillis;
+    private final String node = UUID.randomUUID().toString();
+    private final Counter sent;
+    private final Counter received;
+    private final Counter resyncs;
+    private final TransactionBuffer<ClientChangeEvent> outgoing =
+            new TransactionBuffer<>(TransactionPhase.BEFORE_COMMIT, this::send);
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public ClusterChangeRelay(JdbcTemplate jdbcTemplate,
+                              ObjectMapper objectMapper,
+                              ApplicationEventPublisher eventPublisher,
+                              DataSourceProperties dataSourceProperties,
+                              MeterRegistry meterRegistry,
+                              @Value("${clientpanel.cluster.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.dataSourceProperties = dataSourceProperties;
+        this.reconnectDelayMillis = reconnectDelay.toMillis();
+        this.sent = Counter.builder("clientpanel.cluster.changes").tag("direction", "sent").register(meterRegistry);
+        this.received = Counter.builder("clientpanel.cluster.changes").tag("direction", "received")
+                .register(meterRegistry);
+        this.resyncs = Counter.builder("clientpanel.cluster.resyncs").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listener = Thread.ofPlatform().name("cluster-change-listener").daemon().start(this::runListener);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        listener.join(POLL_MILLIS + 1000L);
+    }
+
+    @EventListener
+    public void onClientChange(ClientChangeEvent event) {
+        outgoing.add(event);
+    }
+
+    private void send(List<ClientChangeEvent> changes) {
+        List<String> payloads = new ArrayList<>();
+        List<String> chunk = new ArrayList<>();
+        int chunkBytes = 0;
+        for (ClientChangeEvent change : changes) {
+            String json = toJson(change);
+            int bytes = json.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (bytes > MAX_CHANGES_BYTES) {
+                // Cannot be sent whole; the other nodes resync instead
+                payloads.add(envelope(List.of(), true));
+                continue;
+            }
+            if (chunkBytes + bytes > MAX_CHANGES_BYTES) {
+                payloads.add(envelope(chunk, false));
+                chunk = new ArrayList<>();
+                chunkBytes = 0;
+            }
+            chunk.add(json);
+            chunkBytes += bytes;
+        }
+        if (!chunk.isEmpty()) {
+            payloads.add(envelope(chunk, false));
+        }
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(NOTIFY);
+            statement.setArray(1, connection.createArrayOf("text", payloads.toArray()));
+            return statement;
+        }, resultSet -> null);
+        sent.increment(changes.size());
+    }
+
+    private String envelope(List<String> changes, boolean resync) {
+        return "{\"node\":\"" + node + "\",\"resync\":" + resync + ",\"changes\":[" + String.join(",", changes) + "]}";
+    }
+
+    private void runListener() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    listenerProperties())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (connectedBefore) {
+                    log.info("Cluster change listener reconnected, resyncing local caches");
+                    resync();
+                }
+                connectedBefore = true;
+                PGConnection notifications = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] batch = notifications.getNotifications(POLL_MILLIS);
+                    if (batch == null || batch.length == 0) {
+                        // Quiet channel: make sure the connection is still alive
+                        if (!connection.isValid(5)) {
+                            throw new SQLException("Listener connection is no longer valid");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : batch) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    log.warn("Cluster change listener failed, reconnecting in {} ms", reconnectDelayMillis, e);
+                    sleep(reconnectDelayMillis);
+                }
+            }
+        }
+    }
+
+    private Properties listenerProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("user", dataSourceProperties.determineUsername());
+        properties.setProperty("password", dataSourceProperties.determinePassword());
+        // Tells the listener apart from pooled connections in pg_stat_activity
+        properties.setProperty("ApplicationName", "clientpanel-cluster-listener");
+        return properties;
+    }
+
+    private void handle(String payload) {
+        Message message;
+        try {
+            message = objectMapper.readValue(payload, Message.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable cluster change notification, resyncing", e);
+            resync();
+            return;
+        }
+        if (node.equals(message.node())) {
+            return;
+        }
+        if (message.resync()) {
+            resync();
+            return;
+        }
+        received.increment(message.changes().size());
+        eventPublisher.publishEvent(new RemoteClientChangeEvent(message.changes()));
+    }
+
+    private void resync() {
+        resyncs.increment();
+        eventPublisher.publishEvent(new RemoteClientResyncEvent());
+    }
+
+    private String toJson(ClientChangeEvent change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unserializable client change", e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Message(String node, boolean resync, List<ClientChangeEvent> changes) {
+    }
+}
@@ -1,7 +1,6 @@
 package com.clientpanel.service;
 
-import com.clientpanel.model.User;
-import com.clientpanel.repository.UserRepository;
+import com.clientpanel.repository.UserCredentials;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,21 +14,21 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final LoginUserCache loginUserCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        UserCredentials user = loginUserCache.get(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
         return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPass())
-                .authorities(new SimpleGrantedAuthority(user.getRole()))
+                .username(user.email())
+                .password(user.pass())
+                .authorities(new SimpleGrantedAuthority(user.role()))
                 .accountExpired(false)
                 .accountLocked(false)
                 .credentialsExpired(false)
-                .disabled(!user.getStatus().equals("Active"))
+                .disabled(!"Active".equals(user.status()))
                 .build();
     }
 }
@@ -0,0 +1,106 @@
+package com.clientpanel.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.Cache;
+import org.hibernate.StatelessSession;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+
+import com.clientpanel.event.ClientChangeEvent;
+import com.clientpanel.event.RemoteClientChangeEvent;
+import com.clientpanel.event.RemoteClientResyncEvent;
+import com.clientpanel.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Keeps Hibernate's second-level cache honest for writes it does not see: patches, bulk
+ * changes and imports go through JDBC. Inside the writing transaction the changed client's
+ * entry, the natural-id entry of an email it gave up and the {@code users} query space are
+ * soft-locked, as Hibernate does for its own updates, and released when the transaction
+ * completes. A locked entry cannot be read or refilled; once released, only loads that
+ * started afterwards (or carry a newer version) may cache it, so a load that began before the
+ * commit cannot put the old row back. Other nodes' changes are locked and released at once.
+ */
+@Component
+public class EntityCacheInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionBuffer<Held> held = new TransactionBuffer<>(TransactionPhase.AFTER_COMPLETION,
+            this::release);
+
+    public EntityCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener
+    public void onClientChange(ClientChangeEvent event) {
+        lock(List.of(event)).forEach(held::add);
+    }
+
+    @EventListener
+    public void onRemoteChanges(RemoteClientChangeEvent remote) {
+        release(lock(remote.changes()));
+    }
+
+    @EventListener(RemoteClientResyncEvent.class)
+    public void onRemoteResync() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+        cache.evictEntityData(User.class);
+        cache.evictNaturalIdData(User.class);
+        cache.evictQueryRegions();
+    }
+
+    private List<Held> lock(List<ClientChangeEvent> events) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(User.class);
+        EntityDataAccess entities = persister.getCacheAccessStrategy();
+        NaturalIdDataAccess naturalIds = persister.getNaturalIdCacheAccessStrategy();
+        List<Held> locks = new ArrayList<>();
+        // Cache keys and locks only need a session for the tenant; it never opens a connection
+        try (StatelessSession statelessSession = sessionFactory.openStatelessSession()) {
+            SharedSessionContractImplementor session = (SharedSessionContractImplementor) statelessSession;
+            // Query results are not cached while the space is pre-invalidated, nor afterwards from older loads
+            sessionFactory.getCache().getTimestampsCache().preInvalidate(persister.getSynchronizationSpaces(), session);
+            for (ClientChangeEvent event : events) {
+                Object key = entities.generateCacheKey(event.clientId(), persister, sessionFactory,
+                        session.getTenantIdentifier());
+                locks.add(new Held(entities, key, entities.lockItem(session, key, null)));
+                // Natural-id entries are keyed by email, which the event may have changed or removed
+                if (event.before() != null
+                        && (event.after() == null || !Objects.equals(event.before().email(), event.after().email()))) {
+                    Object naturalIdKey = naturalIds.generateCacheKey(event.before().email(), persister, session);
+                    locks.add(new Held(naturalIds, naturalIdKey, naturalIds.lockItem(session, naturalIdKey, null)));
+                }
+            }
+        }
+        return locks;
+    }
+
+    private void release(List<Held> locks) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(User.class);
+        try (StatelessSession statelessSession = sessionFactory.openStatelessSession()) {
+            SharedSessionContractImplementor session = (SharedSessionContractImplementor) statelessSession;
+            for (Held lock : locks) {
+                lock.access().unlockItem(session, lock.key(), lock.lock());
+            }
+            // JDBC writes do not bump the update timestamps Hibernate checks cached query results against
+            sessionFactory.getCache().getTimestampsCache().invalidate(persister.getSynchronizationSpaces(), session);
+        }
+    }
+
+    private record Held(CachedDomainDataAccess access, Object key, SoftLock lock) {
+    }
+}
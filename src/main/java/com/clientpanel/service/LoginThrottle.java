@@ -0,0 +1,112 @@
+package com.clientpanel.service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-IP and per-email token buckets for login attempts. Every attempt takes a token from
+ * both; a successful login gives them back, so only failures and floods drain a bucket.
+ * Checking costs no database query and no hashing. Attempts are counted as
+ * {@code clientpanel.login.throttle} tagged {@code outcome} and {@code limit}.
+ * <p>
+ * Addresses in {@code ip.exempt} (the load balancers) get no IP bucket: a request that still
+ * carries a proxy's address was not attributed to a client, and one shared bucket for every
+ * client would let a single attacker lock everyone out. Their email buckets still apply.
+ */
+@Component
+public class LoginThrottle {
+
+    public enum Limit {
+        IP, EMAIL
+    }
+
+    // Longest valid email address; longer input is cut so keys stay small
+    private static final int MAX_EMAIL_LENGTH = 254;
+
+    private final Set<String> exemptIps;
+    private final TokenBucketTable ipBuckets;
+    private final TokenBucketTable emailBuckets;
+    private final Counter allowed;
+    private final Counter rejectedIp;
+    private final Counter rejectedEmail;
+    private final Counter evictedIp;
+    private final Counter evictedEmail;
+
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${clientpanel.login-throttle.max-keys:10000}") int maxKeys,
+                         @Value("${clientpanel.login-throttle.ip.capacity:30}") int ipCapacity,
+                         @Value("${clientpanel.login-throttle.ip.refill-interval:PT1S}") Duration ipRefill,
+                         @Value("${clientpanel.login-throttle.email.capacity:10}") int emailCapacity,
+                         @Value("${clientpanel.login-throttle.email.refill-interval:PT6S}") Duration emailRefill,
+                         @Value("${clientpanel.login-throttle.ip.exempt:}") Set<String> exemptIps) {
+        this.exemptIps = Set.copyOf(exemptIps);
+        this.ipBuckets = new TokenBucketTable(maxKeys, ipCapacity, perSecond(ipRefill));
+        this.emailBuckets = new TokenBucketTable(maxKeys, emailCapacity, perSecond(emailRefill));
+        this.allowed = attempts(meterRegistry, "allowed", "none");
+        this.rejectedIp = attempts(meterRegistry, "rejected", "ip");
+        this.rejectedEmail = attempts(meterRegistry, "rejected", "email");
+        this.evictedIp = Counter.builder("clientpanel.login.throttle.evictions").tag("limit", "ip")
+                .register(meterRegistry);
+        this.evictedEmail = Counter.builder("clientpanel.login.throttle.evictions").tag("limit", "email")
+                .register(meterRegistry);
+        Gauge.builder("clientpanel.login.throttle.keys", ipBuckets, TokenBucketTable::activeKeys)
+                .tag("limit", "ip").register(meterRegistry);
+        Gauge.builder("clientpanel.login.throttle.keys", emailBuckets, TokenBucketTable::activeKeys)
+                .tag("limit", "email").register(meterRegistry);
+    }
+
+    /** Takes a token for the attempt, or returns the limit that rejected it. */
+    public Optional<Limit> tryAcquire(String ip, String email) {
+        if (!exemptIps.contains(ip)) {
+            TokenBucketTable.Acquired byIp = ipBuckets.tryAcquire(ip);
+            if (byIp.evicted()) {
+                evictedIp.increment();
+            }
+            if (!byIp.allowed()) {
+                rejectedIp.increment();
+                return Optional.of(Limit.IP);
+            }
+        }
+        TokenBucketTable.Acquired byEmail = emailBuckets.tryAcquire(emailKey(email));
+        if (byEmail.evicted()) {
+            evictedEmail.increment();
+        }
+        if (!byEmail.allowed()) {
+            rejectedEmail.increment();
+            return Optional.of(Limit.EMAIL);
+        }
+        allowed.increment();
+        return Optional.empty();
+    }
+
+    /** Refunds the tokens of an attempt that logged in successfully. */
+    public void succeeded(String ip, String email) {
+        if (!exemptIps.contains(ip)) {
+            ipBuckets.release(ip);
+        }
+        emailBuckets.release(emailKey(email));
+    }
+
+    private static String emailKey(String email) {
+        String key = email == null ? "" : email.strip().toLowerCase(Locale.ROOT);
+        return key.length() > MAX_EMAIL_LENGTH ? key.substring(0, MAX_EMAIL_LENGTH) : key;
+    }
+
+    private static double perSecond(Duration refillInterval) {
+        return 1e9 / refillInterval.toNanos();
+    }
+
+    private static Counter attempts(MeterRegistry meterRegistry, String outcome, String limit) {
+        return Counter.builder("clientpanel.login.throttle").tag("outcome", outcome).tag("limit", limit)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,81 @@
+package com.clientpanel.service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.clientpanel.event.ClientChangeEvent;
+import com.clientpanel.event.RemoteClientChangeEvent;
+import com.clientpanel.event.RemoteClientResyncEvent;
+import com.clientpanel.repository.UserCredentials;
+import com.clientpanel.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded, expiring cache of login credentials keyed by email. Concurrent logins for the
+ * same account share one database load; committed client changes, local or from another
+ * node, evict their entries.
+ * Hit/miss/eviction counts are published as the {@code login.users} cache metrics.
+ */
+@Component
+public class LoginUserCache {
+
+    private final LoadingCache<String, UserCredentials> cache;
+
+    public LoginUserCache(UserRepository userRepository,
+                          TransactionTemplate transactionTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${clientpanel.login-cache.maximum-size:10000}") long maximumSize,
+                          @Value("${clientpanel.login-cache.expire-after-write:PT5M}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                // Read-write transaction: loads come from the primary, so a replica that has not yet
+                // seen a deactivation cannot keep the old credentials cached for the whole TTL
+                .build(email -> transactionTemplate.execute(
+                        status -> userRepository.findCredentialsByEmail(email).orElse(null)));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "login.users");
+    }
+
+    // Emails are unique regardless of case, so one entry serves every spelling
+    public Optional<UserCredentials> get(String email) {
+        return Optional.ofNullable(cache.get(email.toLowerCase(Locale.ROOT)));
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            cache.invalidate(email.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onClientChange(ClientChangeEvent event) {
+        if (event.before() != null) {
+            evict(event.before().email());
+        }
+        if (event.after() != null) {
+            evict(event.after().email());
+        }
+    }
+
+    @EventListener
+    public void onRemoteChanges(RemoteClientChangeEvent remote) {
+        remote.changes().forEach(this::onClientChange);
+    }
+
+    @EventListener(RemoteClientResyncEvent.class)
+    public void onRemoteResync() {
+        cache.invalidateAll();
+    }
+}
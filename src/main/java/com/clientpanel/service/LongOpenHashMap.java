@@ -0,0 +1,188 @@
+package com.clientpanel.service;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to values, using linear
+ * probing and backward-shift deletion. Keys must be non-negative; {@code -1} marks a
+ * free slot. Writers are serialized; readers are lock-free in the common case and only
+ * fall back to a read lock if a write raced with them.
+ */
+final class LongOpenHashMap<V> {
+
+    private static final long FREE = -1L;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private record Table(long[] keys, Object[] values) {
+    }
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table;
+    private int size;
+
+    LongOpenHashMap(int expectedSize) {
+        this.table = newTable(capacityFor(expectedSize));
+    }
+
+    V get(long key) {
+        long stamp = lock.tryOptimisticRead();
+        V value = find(table, key);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return find(table, key);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    V put(long key, V value) {
+        checkKey(key);
+        long stamp = lock.writeLock();
+        try {
+            if (size + 1 > table.keys().length * LOAD_FACTOR) {
+                table = rehash(table, table.keys().length << 1);
+            }
+            V previous = insert(table, key, value);
+            if (previous == null) {
+                size++;
+            }
+            return previous;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        long stamp = lock.writeLock();
+        try {
+            long[] keys = table.keys();
+            Object[] values = table.values();
+            int mask = keys.length - 1;
+            int slot = slotOf(key, mask);
+            while (keys[slot] != FREE) {
+                if (keys[slot] == key) {
+                    V previous = (V) values[slot];
+                    shiftBack(keys, values, slot, mask);
+                    size--;
+                    return previous;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V find(Table table, long key) {
+        long[] keys = table.keys();
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        // Bounded so a read torn by a concurrent write cannot spin; the caller revalidates
+        for (int probes = 0; probes < keys.length; probes++) {
+            long candidate = keys[slot];
+            if (candidate == key) {
+                return (V) table.values()[slot];
+            }
+            if (candidate == FREE) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V insert(Table table, long key, V value) {
+        long[] keys = table.keys();
+        Object[] values = table.values();
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        values[slot] = value;
+        keys[slot] = key;
+        return null;
+    }
+
+    private static void shiftBack(long[] keys, Object[] values, int freed, int mask) {
+        int slot = freed;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long key = keys[slot];
+            if (key == FREE) {
+                break;
+            }
+            int home = slotOf(key, mask);
+            // Move the entry back if its home slot does not lie cyclically in (freed, slot]
+            boolean movable = freed <= slot ? (home <= freed || home > slot) : (home <= freed && home > slot);
+            if (movable) {
+                keys[freed] = key;
+                values[freed] = values[slot];
+                freed = slot;
+            }
+        }
+        keys[freed] = FREE;
+        values[freed] = null;
+    }
+
+    private static Table rehash(Table old, int capacity) {
+        Table resized = newTable(capacity);
+        long[] keys = old.keys();
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                insert(resized, keys[i], old.values()[i]);
+            }
+        }
+        return resized;
+    }
+
+    private static Table newTable(int capacity) {
+        long[] keys = new long[capacity];
+        Arrays.fill(keys, FREE);
+        return new Table(keys, new Object[capacity]);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, 8) / LOAD_FACTOR);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    static int slotOf(long key, int mask) {
+        // MurmurHash3 finalizer: spreads sequential digit strings across the table
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private static void checkKey(long key) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Negative keys are not supported: " + key);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.clientpanel.service;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/** The {@link PasswordHashingPool} stayed full for the whole admission timeout. */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingBusyException extends RejectedExecutionException {
+
+    public PasswordHashingBusyException() {
+        super("Password hashing is overloaded, try again shortly");
+    }
+}
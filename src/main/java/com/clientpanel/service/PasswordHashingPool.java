@@ -0,0 +1,103 @@
+package com.clientpanel.service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bounded pool of platform threads for BCrypt work, sized to the CPU count by default.
+ * Keeps hashing off request threads (which may be virtual) and caps how many hashes run
+ * at once. Work is admitted by a semaphore covering the threads plus a short queue:
+ * {@link #call} waits at most {@code admission-timeout} for a place and then fails with
+ * {@link PasswordHashingBusyException}; hashing never falls back to the caller's thread.
+ */
+@Component
+public class PasswordHashingPool {
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore admission;
+    private final long admissionTimeoutNanos;
+
+    public PasswordHashingPool(@Value("${clientpanel.hashing.threads:0}") int threads,
+                               @Value("${clientpanel.hashing.queue-capacity:32}") int queueCapacity,
+                               @Value("${clientpanel.hashing.admission-timeout:PT1S}") Duration admissionTimeout) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        // The semaphore is what bounds the work; the queue has room for a thread's worth more because
+        // a finishing task releases its place just before its thread takes the next one
+        this.executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity + size),
+                runnable -> new HashingThread(runnable, "password-hashing-" + counter.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.admission = new Semaphore(size + queueCapacity, true);
+        this.admissionTimeoutNanos = admissionTimeout.toNanos();
+    }
+
+    /**
+     * Queues {@code work} for batch callers such as imports, waiting as long as it takes for a
+     * place: the caller's own thread is the backpressure.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> work) {
+        try {
+            admission.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the hashing pool", e);
+        }
+        return admitted(work);
+    }
+
+    /**
+     * Runs {@code work} on the pool and waits for it; cheap to block on from a virtual thread.
+     * Work submitted from a pool thread runs inline so nested calls cannot deadlock the pool.
+     *
+     * @throws PasswordHashingBusyException when no place frees up within the admission timeout
+     */
+    public <T> T call(Supplier<T> work) {
+        if (Thread.currentThread() instanceof HashingThread) {
+            return work.get();
+        }
+        try {
+            if (!admission.tryAcquire(admissionTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new PasswordHashingBusyException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        }
+        return admitted(work).join();
+    }
+
+    private <T> CompletableFuture<T> admitted(Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, executor).whenComplete((result, failure) -> admission.release());
+        } catch (RejectedExecutionException e) {
+            admission.release();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class HashingThread extends Thread {
+
+        HashingThread(Runnable task, String name) {
+            super(task, name);
+            setDaemon(true);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.clientpanel.service;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Fixed-size table of token buckets keyed by string, for rate limiting. Slots are grouped
+ * into small sets selected by the key's hash (striping); a key lives in one slot of its set.
+ * Buckets are immutable and replaced with compare-and-set, so no thread ever blocks.
+ * <p>
+ * Memory is bounded by the slot count. A bucket idle long enough to have refilled completely
+ * carries no information and its slot is reused as if free; when a set has no such slot, the
+ * fullest bucket, whose limit matters least, is evicted. Rejections do not write, so a key
+ * held empty by a flood stays cheap to check and is the last to be evicted. Racing inserts of the same new key may briefly occupy
+ * two slots, which only makes the limit slightly more lenient.
+ */
+final class TokenBucketTable {
+
+    private static final int WAYS = 4;
+
+    private record Bucket(String key, double tokens, long updatedNanos) {
+    }
+
+    private final AtomicReferenceArray<Bucket> slots;
+    private final int setMask;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long idleNanos;
+    private final LongSupplier nanoTime;
+
+    /**
+     * @param maxKeys upper bound on tracked keys (rounded up to a power of two)
+     * @param capacity burst size
+     * @param refillPerSecond tokens added back per second, up to {@code capacity}
+     */
+    TokenBucketTable(int maxKeys, int capacity, double refillPerSecond) {
+        this(maxKeys, capacity, refillPerSecond, System::nanoTime);
+    }
+
+    /** As above, reading the time from {@code nanoTime} instead of {@link System#nanoTime()}. */
+    TokenBucketTable(int maxKeys, int capacity, double refillPerSecond, LongSupplier nanoTime) {
+        int sets = Integer.highestOneBit(Math.max(maxKeys / WAYS - 1, 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(sets * WAYS);
+        this.setMask = sets - 1;
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / 1e9;
+        this.idleNanos = (long) Math.ceil(capacity / tokensPerNano);
+        this.nanoTime = nanoTime;
+    }
+
+    /** Outcome of {@link #tryAcquire}; {@code evicted} is set when a still-active bucket made room. */
+    record Acquired(boolean allowed, boolean evicted) {
+    }
+
+    /** Takes one token for {@code key}; not allowed when its bucket is empty. */
+    Acquired tryAcquire(String key) {
+        int base = setIndex(key) * WAYS;
+        retry:
+        while (true) {
+            long now = nanoTime.getAsLong();
+            int victim = -1;
+            double victimTokens = -1;
+            Bucket victimBucket = null;
+            for (int i = base; i < base + WAYS; i++) {
+                Bucket bucket = slots.get(i);
+                if (bucket != null && bucket.key().equals(key)) {
+                    double tokens = refilled(bucket, now);
+                    if (tokens < 1) {
+                        return new Acquired(false, false);
+                    }
+                    if (slots.compareAndSet(i, bucket, new Bucket(key, tokens - 1, now))) {
+                        return new Acquired(true, false);
+                    }
+                    continue retry;
+                }
+                double tokens = bucket == null ? Double.MAX_VALUE : refilled(bucket, now);
+                if (tokens > victimTokens) {
+                    victim = i;
+                    victimTokens = tokens;
+                    victimBucket = bucket;
+                }
+            }
+            // Unknown key: a fresh bucket, minus this attempt's token
+            if (slots.compareAndSet(victim, victimBucket, new Bucket(key, capacity - 1, now))) {
+                return new Acquired(true, victimBucket != null && victimTokens < capacity);
+            }
+        }
+    }
+
+    /** Gives back a token taken by {@link #tryAcquire}, e.g. after a successful login. */
+    void release(String key) {
+        int base = setIndex(key) * WAYS;
+        for (int i = base; i < base + WAYS; i++) {
+            Bucket bucket = slots.get(i);
+            while (bucket != null && bucket.key().equals(key)) {
+                long now = nanoTime.getAsLong();
+                Bucket refunded = new Bucket(key, Math.min(refilled(bucket, now) + 1, capacity), now);
+                if (slots.compareAndSet(i, bucket, refunded)) {
+                    return;
+                }
+                bucket = slots.get(i);
+            }
+        }
+    }
+
+    /** Slots holding a bucket that has not yet refilled, i.e. keys currently being limited. */
+    int activeKeys() {
+        long now = nanoTime.getAsLong();
+        int active = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            Bucket bucket = slots.get(i);
+            if (bucket != null && now - bucket.updatedNanos() < idleNanos) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    private double refilled(Bucket bucket, long now) {
+        return Math.min(bucket.tokens() + (now - bucket.updatedNanos()) * tokensPerNano, capacity);
+    }
+
+    private int setIndex(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) * 0x9E3779B9 >>> 8 & setMask;
+    }
+}
@@ -0,0 +1,79 @@
+package com.clientpanel.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Collects items per transaction and hands each transaction's items to {@code flush} in one
+ * call at {@code phase}; outside a transaction every item is flushed at once. A suspended
+ * transaction keeps its buffer to itself, so items added inside a {@code REQUIRES_NEW}
+ * transaction are flushed when that transaction completes, whatever the outer one does.
+ */
+final class TransactionBuffer<T> {
+
+    private final TransactionPhase phase;
+    private final Consumer<List<T>> flush;
+
+    TransactionBuffer(TransactionPhase phase, Consumer<List<T>> flush) {
+        this.phase = phase;
+        this.flush = flush;
+    }
+
+    void add(T item) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            flush.accept(List.of(item));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Batch batch = (Batch) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            batch = new Batch();
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(batch);
+        }
+        batch.items.add(item);
+    }
+
+    private final class Batch implements TransactionSynchronization {
+
+        private final List<T> items = new ArrayList<>();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TransactionBuffer.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(TransactionBuffer.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (phase == TransactionPhase.BEFORE_COMMIT) {
+                flush.accept(items);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (phase == TransactionPhase.AFTER_COMMIT) {
+                flush.accept(items);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TransactionBuffer.this);
+            if (phase == TransactionPhase.AFTER_COMPLETION
+                    || (phase == TransactionPhase.AFTER_ROLLBACK && status == STATUS_ROLLED_BACK)) {
+                flush.accept(items);
+            }
+        }
+    }
+}
@@ -1,38 +1,140 @@
 package com.clientpanel.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.clientpanel.dto.ClientCursor;
+import com.clientpanel.dto.ClientPatch;
+import com.clientpanel.dto.ClientSlice;
+import com.clientpanel.event.ClientChangeEvent;
+import com.clientpanel.event.ClientSnapshot;
 import com.clientpanel.model.User;
+import com.clientpanel.repository.ClientSummary;
+import com.clientpanel.repository.PatchedClient;
 import com.clientpanel.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Client reads and writes. Methods that load {@link User} entities run in read-write
+ * transactions, which always use the primary: every entity they load also fills the shared
+ * second-level cache, which must not hold replica lag. Projection reads stay read-only and
+ * may go to the replica.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class UserService {
 
+    // Upper bound on ids per bulk statement, keeping the IN list and its bind parameters small
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final Set<String> STATUSES = Set.of("Active", "Inactive");
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ClientStatusStatistics statusStatistics;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public Page<User> getAllUsers(Pageable pageable) {
         return userRepository.findAll(pageable);
     }
 
+    /**
+     * Keyset-paginated listing ordered by (createdAt, clientId). Pass at most one of
+     * {@code after}/{@code before}; with neither, the first page is returned.
+     */
+    @Transactional(readOnly = true)
+    public ClientSlice<ClientSummary> getUserSlice(String after, String before, int size) {
+        Limit limit = Limit.of(size + 1);
+
+        if (before != null) {
+            ClientCursor cursor = ClientCursor.decode(before);
+            List<ClientSummary> rows = new ArrayList<>(userRepository.findPageBefore(cursor.createdAt(), cursor.clientId(), limit));
+            boolean hasPrevious = rows.size() > size;
+            if (hasPrevious) {
+                rows.remove(size);
+            }
+            Collections.reverse(rows);
+            return toSlice(rows, true, hasPrevious);
+        }
+
+        List<ClientSummary> rows;
+        boolean hasPrevious = false;
+        if (after != null) {
+            ClientCursor cursor = ClientCursor.decode(after);
+            rows = new ArrayList<>(userRepository.findPageAfter(cursor.createdAt(), cursor.clientId(), limit));
+            hasPrevious = true;
+        } else {
+            rows = new ArrayList<>(userRepository.findFirstPage(limit));
+        }
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows.remove(size);
+        }
+        return toSlice(rows, hasNext, hasPrevious);
+    }
+
+    private ClientSlice<ClientSummary> toSlice(List<ClientSummary> rows, boolean hasNext, boolean hasPrevious) {
+        if (rows.isEmpty()) {
+            return new ClientSlice<>(rows, null, null);
+        }
+        String next = hasNext ? cursorOf(rows.get(rows.size() - 1)) : null;
+        String previous = hasPrevious ? cursorOf(rows.get(0)) : null;
+        return new ClientSlice<>(rows, next, previous);
+    }
+
+    private static String cursorOf(ClientSummary client) {
+        return new ClientCursor(client.getCreatedAt(), client.getClientId()).encode();
+    }
+
+    /**
+     * Ranked search: substring match on name and email, prefix match on mobile and phone
+     * number ID. Terms shorter than three characters only prefix-match, since trigram
+     * indexes cannot serve shorter substrings.
+     */
+    @Transactional(readOnly = true)
+    public List<ClientSummary> searchUsers(String term, int limit) {
+        String normalized = term == null ? "" : term.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        String escaped = normalized.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        String prefix = escaped + "%";
+        String contains = normalized.length() < 3 ? prefix : "%" + escaped + "%";
+        return userRepository.search(normalized, prefix, contains, limit);
+    }
+
+    @Transactional
     public Page<User> getUsersByStatus(String status, Pageable pageable) {
         return userRepository.findByStatus(status, pageable);
     }
 
+    @Transactional
     public Optional<User> getUserById(String clientId) {
         return userRepository.findById(clientId);
     }
 
+    @Transactional
     public Optional<User> getUserByEmail(String email) {
         return userRepository.findByEmail(email);
     }
@@ -41,78 +143,127 @@ public class UserService {
         user.setRole("ROLE_CLIENT");
         user.setStatus("Active");
         user.setPass(passwordEncoder.encode(user.getPass()));
-        return userRepository.save(user);
+        userRepository.insert(user);
+        eventPublisher.publishEvent(ClientChangeEvent.created(ClientSnapshot.of(user)));
+        return user;
     }
 
-    public User updateUser(String clientId, User userDetails) {
-        User user = userRepository.findById(clientId)
-                .orElseThrow(() -> new RuntimeException("User not found with client_id: " + clientId));
+    /**
+     * Applies {@code patch} in one UPDATE guarded by the version the caller last read.
+     *
+     * @throws ObjectOptimisticLockingFailureException if the client changed since {@code version}
+     */
+    public ClientSnapshot patchUser(String clientId, long version, ClientPatch patch) {
+        PatchedClient patched = userRepository.patch(clientId, version, patch, LocalDateTime.now())
+                .orElseThrow(() -> userRepository.existsById(clientId)
+                        ? new ObjectOptimisticLockingFailureException(User.class, clientId)
+                        : new RuntimeException("User not found with client_id: " + clientId));
+        eventPublisher.publishEvent(ClientChangeEvent.updated(patched.before(), patched.after()));
+        log.info("Client patched clientId={} fromVersion={}", clientId, version);
+        return patched.after();
+    }
 
-        if (userDetails.getEmail() != null && !userDetails.getEmail().isEmpty()) {
-            user.setEmail(userDetails.getEmail());
-        }
-        if (userDetails.getName() != null && !userDetails.getName().isEmpty()) {
-            user.setName(userDetails.getName());
-        }
-        if (userDetails.getMobile() != null && !userDetails.getMobile().isEmpty()) {
-            user.setMobile(userDetails.getMobile());
-        }
-        if (userDetails.getPhoneNumberId() != null && !userDetails.getPhoneNumberId().isEmpty()) {
-            user.setPhoneNumberId(userDetails.getPhoneNumberId());
-        }
-        if (userDetails.getChatPrefix() != null && !userDetails.getChatPrefix().isEmpty()) {
-            user.setChatPrefix(userDetails.getChatPrefix());
+    public void deleteUser(String clientId) {
+        userRepository.findById(clientId).ifPresent(user -> {
+            userRepository.delete(user);
+            eventPublisher.publishEvent(ClientChangeEvent.deleted(ClientSnapshot.of(user)));
+        });
+    }
+
+    /**
+     * Sets {@code status} on the given clients with one UPDATE per chunk of ids. Clients
+     * that already have the status are left untouched and not counted.
+     *
+     * @return the number of clients whose status changed
+     */
+    public int bulkUpdateStatus(Collection<String> clientIds, String status) {
+        if (!STATUSES.contains(status)) {
+            throw new IllegalArgumentException("Unknown status: " + status);
         }
-        if (userDetails.getStatus() != null && !userDetails.getStatus().isEmpty()) {
-            user.setStatus(userDetails.getStatus());
+        LocalDateTime now = LocalDateTime.now();
+        int changed = 0;
+        for (List<String> chunk : chunks(clientIds)) {
+            for (ClientSnapshot before : userRepository.bulkUpdateStatus(chunk, status, now)) {
+                eventPublisher.publishEvent(ClientChangeEvent.updated(before, before.withStatus(status, now)));
+                changed++;
+            }
         }
-        // Password is updated separately through changePassword method
+        log.info("Bulk status change status={} requested={} changed={}", status, clientIds.size(), changed);
+        return changed;
+    }
 
-        User updatedUser = userRepository.save(user);
-        System.out.println("✓ Client updated successfully: " + updatedUser.getClientId());
-        return updatedUser;
+    /**
+     * Deletes the given clients with one DELETE per chunk of ids.
+     *
+     * @return the number of clients deleted
+     */
+    public int bulkDeleteUsers(Collection<String> clientIds) {
+        int deleted = 0;
+        for (List<String> chunk : chunks(clientIds)) {
+            for (ClientSnapshot before : userRepository.bulkDelete(chunk)) {
+                eventPublisher.publishEvent(ClientChangeEvent.deleted(before));
+                deleted++;
+            }
+        }
+        log.info("Bulk delete requested={} deleted={}", clientIds.size(), deleted);
+        return deleted;
     }
 
-    public void deleteUser(String clientId) {
-        userRepository.deleteById(clientId);
+    private static List<List<String>> chunks(Collection<String> clientIds) {
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(clientIds));
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += BULK_CHUNK_SIZE) {
+            chunks.add(distinct.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinct.size())));
+        }
+        return chunks;
     }
 
+    @Transactional
     public boolean emailExists(String email) {
         return userRepository.findByEmail(email).isPresent();
     }
 
+    @Transactional
     public boolean mobileExists(String mobile) {
         return userRepository.findByMobile(mobile).isPresent();
     }
 
+    @Transactional
     public boolean phoneNumberIdExists(String phoneNumberId) {
         return userRepository.findByPhoneNumberId(phoneNumberId).isPresent();
     }
 
+    // Counts come from memory: no transaction, so no pooled connection either
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public long getActiveUsersCount() {
-        return userRepository.countByStatus("Active");
+        return statusStatistics.snapshot().active();
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public long getInactiveUsersCount() {
-        return userRepository.countByStatus("Inactive");
+        return statusStatistics.snapshot().inactive();
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public long getTotalUsersCount() {
-        return userRepository.count();
+        return statusStatistics.snapshot().total();
     }
 
+    @Transactional
     public boolean isEmailUniqueExcluding(String email, String clientId) {
         return userRepository.findByEmail(email)
                 .map(user -> user.getClientId().equals(clientId))
                 .orElse(true);
     }
 
+    @Transactional
     public boolean isMobileUniqueExcluding(String mobile, String clientId) {
         return userRepository.findByMobile(mobile)
                 .map(user -> user.getClientId().equals(clientId))
                 .orElse(true);
     }
 
+    @Transactional
     public boolean isPhoneNumberIdUniqueExcluding(String phoneNumberId, String clientId) {
         return userRepository.findByPhoneNumberId(phoneNumberId)
                 .map(user -> user.getClientId().equals(clientId))
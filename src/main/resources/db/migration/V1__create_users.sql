@@ -0,0 +1,15 @@
+-- Baseline schema. Databases that already have the users table are baselined at this
+-- version (spring.flyway.baseline-on-migrate) and start from V2.
+CREATE TABLE IF NOT EXISTS users (
+    client_id       VARCHAR(10)  PRIMARY KEY,
+    email           VARCHAR(255) NOT NULL UNIQUE,
+    name            VARCHAR(255),
+    mobile          VARCHAR(20)  UNIQUE,
+    phone_number_id VARCHAR(15)  UNIQUE,
+    pass            VARCHAR(255) NOT NULL,
+    chat_prefix     TEXT,
+    role            VARCHAR(50),
+    status          VARCHAR(20),
+    created_at      TIMESTAMP,
+    updated_at      TIMESTAMP
+);
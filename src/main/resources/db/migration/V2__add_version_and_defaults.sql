@@ -0,0 +1,8 @@
+-- Optimistic locking (User.version)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- Keyset pagination compares (created_at, client_id) tuples, which skip NULLs
+UPDATE users SET created_at = COALESCE(updated_at, now()) WHERE created_at IS NULL;
+ALTER TABLE users ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE users ALTER COLUMN created_at SET DEFAULT now();
+ALTER TABLE users ALTER COLUMN status SET DEFAULT 'Active';
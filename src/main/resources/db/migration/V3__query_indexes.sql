@@ -0,0 +1,15 @@
+-- Listing (UserRepository.findFirstPage/findPageAfter/findPageBefore): ordered keyset scan
+-- that also carries the listed columns, so pages can be served from the index
+CREATE INDEX IF NOT EXISTS idx_users_created_at_client_id
+    ON users (created_at, client_id) INCLUDE (email, name, mobile, phone_number_id, status);
+
+-- countByStatus / findByStatus / countGroupedByStatus, in listing order within a status
+CREATE INDEX IF NOT EXISTS idx_users_status_created_at ON users (status, created_at, client_id);
+
+-- Inactive clients are the minority that operators filter for; a partial index stays small
+CREATE INDEX IF NOT EXISTS idx_users_inactive_created_at
+    ON users (created_at, client_id) WHERE status = 'Inactive';
+
+-- Emails are unique regardless of case; login and uniqueness checks look up lower(email).
+-- Fails if existing rows differ only by case; resolve those first.
+CREATE UNIQUE INDEX IF NOT EXISTS users_email_lower_key ON users (lower(email));
@@ -0,0 +1,10 @@
+-- Indexes backing client search (UserRepository.search)
+
+-- Trigram indexes serve substring (and prefix) LIKE on name and email
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_users_name_trgm ON users USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+
+-- Pattern-ops B-trees serve prefix LIKE on the numeric identifiers regardless of collation
+CREATE INDEX IF NOT EXISTS idx_users_mobile_prefix ON users (mobile text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_users_phone_number_id_prefix ON users (phone_number_id text_pattern_ops);
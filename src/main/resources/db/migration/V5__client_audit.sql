@@ -0,0 +1,12 @@
+-- Field-level change history, written in batches by ClientAuditTrail. No foreign key:
+-- the history of a deleted client is kept.
+CREATE TABLE client_audit (
+    id         BIGSERIAL    PRIMARY KEY,
+    client_id  VARCHAR(10)  NOT NULL,
+    action     VARCHAR(20)  NOT NULL,
+    changed_by VARCHAR(255) NOT NULL,
+    changed_at TIMESTAMP    NOT NULL,
+    changes    TEXT         NOT NULL
+);
+
+CREATE INDEX idx_client_audit_client ON client_audit (client_id, id DESC);
@@ -0,0 +1,21 @@
+-- Shared HTTP sessions for JdbcSessionStore (clientpanel.session.store=jdbc). primary_id is
+-- stable while session_id changes on login; attributes are one row each so a save rewrites
+-- only the attributes that changed.
+CREATE TABLE http_session (
+    primary_id           CHAR(36)    PRIMARY KEY,
+    session_id           VARCHAR(64) NOT NULL UNIQUE,
+    creation_time        BIGINT      NOT NULL,
+    last_access_time     BIGINT      NOT NULL,
+    max_inactive_seconds INTEGER     NOT NULL,
+    expiry_time          BIGINT      NOT NULL,
+    attributes_version   BIGINT      NOT NULL
+);
+
+CREATE INDEX idx_http_session_expiry ON http_session (expiry_time);
+
+CREATE TABLE http_session_attributes (
+    session_primary_id CHAR(36)     NOT NULL REFERENCES http_session (primary_id) ON DELETE CASCADE,
+    attribute_name     VARCHAR(200) NOT NULL,
+    attribute_bytes    BYTEA        NOT NULL,
+    PRIMARY KEY (session_primary_id, attribute_name)
+);
@@ -0,0 +1,3 @@
+-- Emails are stored lower-cased so the email natural id matches every spelling of an address.
+-- users_email_lower_key (V3) already rules out two rows that differ only in case.
+UPDATE users SET email = lower(email) WHERE email <> lower(email);
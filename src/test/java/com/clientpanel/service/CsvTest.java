@@ -0,0 +1,63 @@
+package com.clientpanel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CsvTest {
+
+    @Test
+    void readsQuotedFieldsWithCommasAndDoubledQuotes() throws IOException {
+        assertThat(records("a,\"b,c\",\"say \"\"hi\"\"\"\n"))
+                .containsExactly(List.of("a", "b,c", "say \"hi\""));
+    }
+
+    @Test
+    void keepsLineBreaksInsideQuotes() throws IOException {
+        assertThat(records("1,\"line one\r\nline two\nline three\",x\r\n2,y,z\r\n"))
+                .containsExactly(List.of("1", "line one\r\nline two\nline three", "x"), List.of("2", "y", "z"));
+    }
+
+    @Test
+    void splitsRecordsOnCrLfLfAndBareCr() throws IOException {
+        assertThat(records("a,b\r\nc,d\ne,f\rg,h"))
+                .containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e", "f"), List.of("g", "h"));
+    }
+
+    @Test
+    void skipsBlankLinesIncludingATrailingOne() throws IOException {
+        assertThat(records("a,b\r\n\r\n\nc,d\r\n\r\n"))
+                .containsExactly(List.of("a", "b"), List.of("c", "d"));
+        assertThat(records("")).isEmpty();
+        assertThat(records("\r\n")).isEmpty();
+    }
+
+    @Test
+    void keepsEmptyFields() throws IOException {
+        assertThat(records(",x,\n\"\",\"\",\"\"\n"))
+                .containsExactly(List.of("", "x", ""), List.of("", "", ""));
+    }
+
+    @Test
+    void writtenRecordsReadBackUnchanged() throws IOException {
+        StringBuilder out = new StringBuilder();
+        Csv.writeRecord(out, "plain", "with,comma", "with \"quotes\"", "multi\r\nline", null, 42);
+
+        assertThat(records(out.toString()))
+                .containsExactly(List.of("plain", "with,comma", "with \"quotes\"", "multi\r\nline", "", "42"));
+    }
+
+    private static List<List<String>> records(String text) throws IOException {
+        Csv.RecordReader reader = new Csv.RecordReader(new StringReader(text));
+        List<List<String>> records = new ArrayList<>();
+        for (List<String> record = reader.next(); record != null; record = reader.next()) {
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,92 @@
+package com.clientpanel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongOpenHashMapTest {
+
+    // new LongOpenHashMap<>(8) starts with 16 slots
+    private static final int MASK = 15;
+
+    @Test
+    void growsPastExpectedSizeAndKeepsEveryEntry() {
+        LongOpenHashMap<String> map = new LongOpenHashMap<>(1);
+        for (long key = 0; key < 10_000; key++) {
+            assertThat(map.put(key, "v" + key)).isNull();
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        for (long key = 0; key < 10_000; key++) {
+            assertThat(map.get(key)).isEqualTo("v" + key);
+        }
+        assertThat(map.get(10_000)).isNull();
+        assertThat(map.put(42, "replaced")).isEqualTo("v42");
+        assertThat(map.size()).isEqualTo(10_000);
+    }
+
+    @Test
+    void removeKeepsTheRestOfACollisionChainReachable() {
+        // Four keys homed in the last slot wrap round to the start, where two more keys are homed
+        List<Long> chain = new ArrayList<>(keysHomedAt(MASK, 4));
+        chain.addAll(keysHomedAt(0, 2));
+
+        for (Long removed : chain) {
+            LongOpenHashMap<Long> map = new LongOpenHashMap<>(8);
+            chain.forEach(key -> map.put(key, key));
+
+            assertThat(map.remove(removed)).isEqualTo(removed);
+
+            assertThat(map.size()).isEqualTo(chain.size() - 1);
+            assertThat(map.get(removed)).isNull();
+            assertThat(map.remove(removed)).isNull();
+            for (Long key : chain) {
+                if (!key.equals(removed)) {
+                    assertThat(map.get(key)).as("key %d after removing %d", key, removed).isEqualTo(key);
+                }
+            }
+        }
+    }
+
+    @Test
+    void matchesHashMapUnderMixedPutsAndRemoves() {
+        LongOpenHashMap<Integer> map = new LongOpenHashMap<>(8);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(64);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+        for (long key = 0; key < 64; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+    }
+
+    @Test
+    void rejectsNegativeKeys() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LongOpenHashMap<>(8).put(-1, "x"));
+    }
+
+    private static List<Long> keysHomedAt(int slot, int count) {
+        List<Long> keys = new ArrayList<>();
+        for (long key = 0; keys.size() < count; key++) {
+            if (LongOpenHashMap.slotOf(key, MASK) == slot) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
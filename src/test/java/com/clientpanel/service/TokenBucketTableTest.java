@@ -0,0 +1,86 @@
+package com.clientpanel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTableTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucketTable buckets = new TokenBucketTable(64, 2, 1.0, now::get);
+
+        assertThat(buckets.tryAcquire("a").allowed()).isTrue();
+        assertThat(buckets.tryAcquire("a").allowed()).isTrue();
+        assertThat(buckets.tryAcquire("a").allowed()).isFalse();
+
+        advance(Duration.ofMillis(500));
+        assertThat(buckets.tryAcquire("a").allowed()).isFalse();
+
+        advance(Duration.ofMillis(501));
+        assertThat(buckets.tryAcquire("a").allowed()).isTrue();
+        assertThat(buckets.tryAcquire("a").allowed()).isFalse();
+
+        // Other keys have buckets of their own
+        assertThat(buckets.tryAcquire("b").allowed()).isTrue();
+    }
+
+    @Test
+    void evictsTheFullestBucketWhenASetIsFull() {
+        // 64 slots: two keys per slot overflow at least one set
+        TokenBucketTable buckets = new TokenBucketTable(64, 2, 1.0, now::get);
+        buckets.tryAcquire("flood");
+        buckets.tryAcquire("flood");
+
+        boolean evicted = false;
+        for (int i = 0; i < 128; i++) {
+            evicted |= buckets.tryAcquire("key-" + i).evicted();
+        }
+
+        assertThat(evicted).isTrue();
+        assertThat(buckets.activeKeys()).isEqualTo(64);
+        // The empty bucket is the last one worth dropping, so the flood stays limited
+        assertThat(buckets.tryAcquire("flood").allowed()).isFalse();
+    }
+
+    @Test
+    void reusesRefilledBucketsWithoutCountingAnEviction() {
+        TokenBucketTable buckets = new TokenBucketTable(64, 2, 1.0, now::get);
+        for (int i = 0; i < 128; i++) {
+            buckets.tryAcquire("old-" + i);
+        }
+        assertThat(buckets.activeKeys()).isEqualTo(64);
+
+        advance(Duration.ofSeconds(2));
+        assertThat(buckets.activeKeys()).isZero();
+        assertThat(buckets.tryAcquire("new").evicted()).isFalse();
+        assertThat(buckets.activeKeys()).isEqualTo(1);
+    }
+
+    @Test
+    void releaseGivesBackATokenButNeverExceedsCapacity() {
+        TokenBucketTable buckets = new TokenBucketTable(64, 3, 1.0, now::get);
+        buckets.tryAcquire("a");
+        buckets.release("a");
+        buckets.release("a");
+        buckets.release("unknown");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(buckets.tryAcquire("a").allowed()).isTrue();
+        }
+        assertThat(buckets.tryAcquire("a").allowed()).isFalse();
+
+        buckets.release("a");
+        assertThat(buckets.tryAcquire("a").allowed()).isTrue();
+        assertThat(buckets.tryAcquire("a").allowed()).isFalse();
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}